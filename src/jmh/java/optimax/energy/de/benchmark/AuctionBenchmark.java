@@ -0,0 +1,181 @@
+package optimax.energy.de.benchmark;
+
+import optimax.energy.de.bot.Bot;
+import optimax.energy.de.bot.GrokBot;
+import optimax.energy.de.bot.RandomBot;
+import optimax.energy.de.bot.StrategyBot;
+import optimax.energy.de.bot.TradingBot;
+import optimax.energy.de.event.AuctionEventBus;
+import optimax.energy.de.event.LoggingAuctionListener;
+import optimax.energy.de.simulation.Auction;
+import optimax.energy.de.simulation.Lot;
+import optimax.energy.de.strategy.PressingStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+
+/**
+ * End-to-end throughput of the auction engine.
+ *
+ * auction: whole Auction.start() runs per second for every bot pairing and auction size,
+ * with the rounds played reported as an extra "rounds" counter.
+ * lotRound: Lot.playRound() calls per second between two fixed bidders, isolating the lot engine.
+ *
+ * Both run with events off, with a listener that only counts them, and with the logging listener
+ * writing into a discarded stream. Together with the GC profiler of the jmh task this is the
+ * baseline for engine optimizations; LotAllocationTest guards the allocation-free hot path in
+ * the regular test run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuctionBenchmark {
+
+    /** Starting MU of every bot. */
+    private static final int CASH = 10_000;
+
+    /**
+     * Event bus and bots shared by the benchmarks of one trial.
+     */
+    @State(Scope.Thread)
+    public static class Setting {
+
+        @Param({"40", "1000", "100000"})
+        int quantity;
+
+        @Param({"trading-random", "trading-grok", "grok-random", "trading-pressing"})
+        String pairing;
+
+        @Param({"off", "counting", "logging"})
+        String events;
+
+        AuctionEventBus bus;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            bus = new AuctionEventBus(AuctionEventBus.DEFAULT_CAPACITY);
+            switch (events) {
+                case "off" -> { }
+                case "counting" -> bus.addListener(event -> { });
+                case "logging" -> {
+                    Logger logger = Logger.getLogger(LoggingAuctionListener.class.getName());
+                    logger.setUseParentHandlers(false);
+                    logger.addHandler(new StreamHandler(OutputStream.nullOutputStream(), new SimpleFormatter()));
+                    bus.addListener(new LoggingAuctionListener());
+                }
+                default -> throw new IllegalArgumentException("Unknown event mode " + events);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            bus.close();
+        }
+
+        Bot bot(String name) {
+            return switch (name) {
+                case "trading" -> new TradingBot("Trading");
+                case "random" -> new RandomBot("Random");
+                case "grok" -> new GrokBot("Grok");
+                case "pressing" -> new StrategyBot("Pressing", new PressingStrategy());
+                default -> throw new IllegalArgumentException("Unknown bot " + name);
+            };
+        }
+    }
+
+    /**
+     * Counts the rounds played, reported by JMH as rounds per second next to the auctions.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rounds {
+        public long rounds;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rounds = 0;
+        }
+    }
+
+    @Benchmark
+    public Bot auction(Setting setting, Rounds counter) {
+        String[] names = setting.pairing.split("-");
+        Bot first = setting.bot(names[0]);
+        Bot second = setting.bot(names[1]);
+        first.init(0, CASH);
+        second.init(0, CASH);
+
+        Auction auction = new Auction(setting.quantity, first, second);
+        auction.setEventBus(setting.bus);
+        auction.setSeed(42);
+        auction.start();
+
+        counter.rounds += setting.quantity / Lot.QUANTITY_PER_LOT;
+        return auction.determineWinnerOfTheAuction();
+    }
+
+    /**
+     * A lot engine between two fixed bidders, rebuilt for every measurement iteration.
+     */
+    @State(Scope.Thread)
+    public static class Engine {
+
+        @Param({"off", "counting"})
+        String events;
+
+        AuctionEventBus bus;
+        Lot lot;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            bus = new AuctionEventBus(AuctionEventBus.DEFAULT_CAPACITY);
+            if (events.equals("counting")) {
+                bus.addListener(event -> { });
+            }
+        }
+
+        @Setup(Level.Iteration)
+        public void newLot() {
+            lot = new Lot(List.of(new FixedBidBot("High", 2), new FixedBidBot("Low", 1)), bus, 1);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            bus.close();
+        }
+    }
+
+    @Benchmark
+    public void lotRound(Engine engine) {
+        engine.lot.playRound();
+    }
+
+    /**
+     * Bids a constant amount from an effectively unlimited budget and keeps no history.
+     */
+    static class FixedBidBot extends Bot {
+        private final int fixedBid;
+
+        FixedBidBot(String name, int fixedBid) {
+            super(name);
+            this.fixedBid = fixedBid;
+            init(0, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int placeBid() {
+            return fixedBid;
+        }
+
+        @Override
+        public void bids(int own, int other) {
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package optimax.energy.de.benchmark;
+
+import optimax.energy.de.bot.BidHistory;
+import optimax.energy.de.strategy.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a single decideStrategy() call of every strategy against histories
+ * from 10 to 1,000,000 rounds. Run through the Gradle jmh task, which adds the
+ * GC profiler so allocation per call is reported next to the timings.
+ *
+ * The median, Grok and opponent model strategies update their state incrementally and only
+ * process the rounds added since their previous call, so repeated calls on one history would
+ * measure nothing but a no-op. Every measured call therefore goes to a fresh strategy, in
+ * single-shot mode, and pays for the whole history.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class StrategyBenchmark {
+
+    /** Budget passed to every call; large enough that no strategy is capped by it. */
+    private static final int BUDGET = 1_000_000;
+
+    @Param({"10", "100", "1000", "10000", "100000", "1000000"})
+    private int historySize;
+
+    @Param({"median", "grok", "random", "steady", "pressing", "model"})
+    private String strategyName;
+
+    private BiddingStrategy strategy;
+    private BidHistory history;
+    private int amountOfQU;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        history = new BidHistory();
+        for (int i = 0; i < historySize; i++) {
+            history.add(random.nextInt(200), random.nextInt(200));
+        }
+        // Leave rounds to play so that no strategy short-cuts the end of the auction
+        amountOfQU = (historySize + 10) * 2;
+    }
+
+    @Setup(Level.Iteration)
+    public void createStrategy() {
+        strategy = create(strategyName);
+    }
+
+    @Benchmark
+    public int decideStrategy() {
+        return strategy.decideStrategy(BUDGET, history, amountOfQU);
+    }
+
+    /**
+     * Creates the strategy under test from its parameter name.
+     */
+    static BiddingStrategy create(String name) {
+        return switch (name) {
+            case "median" -> new MedianBasedStrategy();
+            case "grok" -> new GrokStrategy();
+            case "random" -> new RandomStrategy(42);
+            case "steady" -> new SteadyStrategy();
+            case "pressing" -> new PressingStrategy();
+            case "model" -> new OpponentModelStrategy();
+            default -> throw new IllegalArgumentException("Unknown strategy " + name);
+        };
+    }
+}
@@ -4,6 +4,8 @@ import optimax.energy.de.bot.Bot;
 import optimax.energy.de.bot.GrokBot;
 import optimax.energy.de.bot.RandomBot;
 import optimax.energy.de.bot.TradingBot;
+import optimax.energy.de.event.AuctionEventBus;
+import optimax.energy.de.event.LoggingAuctionListener;
 import optimax.energy.de.simulation.Auction;
 
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
@@ -12,6 +14,8 @@ public class Main {
 
     public static void main(String[] args) throws InterruptedException {
 
+        AuctionEventBus.getDefault().addListener(new LoggingAuctionListener());
+
         Bot mainBot = new TradingBot("Main Bot");
         Bot randomBot = new RandomBot("Herr Zufall");
         Bot grokBot = new GrokBot("Grok");
@@ -27,6 +31,9 @@ public class Main {
 
         auction.start();
 
+        AuctionEventBus.getDefault().flush();
+        randomBot.showBids();
+
     }
 
 
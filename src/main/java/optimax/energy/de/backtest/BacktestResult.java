@@ -0,0 +1,66 @@
+package optimax.energy.de.backtest;
+
+/**
+ * Outcome of replaying one strategy against a recorded opponent bid stream.
+ */
+public class BacktestResult {
+
+    private final String name;
+    private final int quantity;
+    private final int budget;
+    private final int opponentQuantity;
+    private final int opponentBudget;
+
+    /**
+     * Constructs a BacktestResult.
+     *
+     * @param name             the name of the replayed strategy
+     * @param quantity         QU the strategy won
+     * @param budget           MU the strategy had left
+     * @param opponentQuantity QU the opponent won against the strategy
+     * @param opponentBudget   MU the opponent had left
+     */
+    public BacktestResult(String name, int quantity, int budget, int opponentQuantity, int opponentBudget) {
+        this.name = name;
+        this.quantity = quantity;
+        this.budget = budget;
+        this.opponentQuantity = opponentQuantity;
+        this.opponentBudget = opponentBudget;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public int getOpponentQuantity() {
+        return opponentQuantity;
+    }
+
+    public int getOpponentBudget() {
+        return opponentBudget;
+    }
+
+    /**
+     * Applies the auction rules to the replayed match: most QU wins, then most MU left.
+     *
+     * @return positive if the strategy won, zero on a draw, negative if it lost
+     */
+    public int getOutcome() {
+        int byQuantity = Integer.compare(quantity, opponentQuantity);
+        return byQuantity != 0 ? byQuantity : Integer.compare(budget, opponentBudget);
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + quantity + " QU / " + budget + " MU vs "
+                + opponentQuantity + " QU / " + opponentBudget + " MU";
+    }
+}
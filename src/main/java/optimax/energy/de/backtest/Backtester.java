@@ -0,0 +1,109 @@
+package optimax.energy.de.backtest;
+
+import optimax.energy.de.bot.BidHistory;
+import optimax.energy.de.simulation.JournalReader;
+import optimax.energy.de.simulation.Lot;
+import optimax.energy.de.strategy.BiddingStrategy;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Replays bidding strategies against an opponent's recorded bids from an auction journal.
+ *
+ * The replay is open-loop: the opponent's bids are taken from the journal as they were,
+ * no matter what the candidate bids. Each candidate is fed with decideStrategy() round by
+ * round and the lot rules are applied directly, without creating Bot, Lot or Auction
+ * objects. The journal is read in place from its memory mapping, so all candidates
+ * are replayed in parallel over the same input.
+ */
+public class Backtester {
+
+    /** Recorded auction. */
+    private final JournalReader journal;
+    /** Slot of the opponent whose bids are replayed. */
+    private final int opponentSlot;
+    /** Starting MU of every candidate. */
+    private final int cash;
+    /** Candidates by name; strategies keep state, so each replay gets a new instance. */
+    private final Map<String, Supplier<? extends BiddingStrategy>> candidates;
+
+    /**
+     * Constructs a Backtester.
+     *
+     * @param journal  the recorded auction
+     * @param opponent the name of the participant whose bids are replayed
+     * @param cash     starting MU of every candidate
+     * @throws IllegalArgumentException if the opponent did not take part in the auction
+     */
+    public Backtester(JournalReader journal, String opponent, int cash) {
+        this.journal = journal;
+        this.opponentSlot = journal.getParticipants().indexOf(opponent);
+        if (opponentSlot < 0) {
+            throw new IllegalArgumentException(opponent + " is not part of the journal");
+        }
+        this.cash = cash;
+        this.candidates = new LinkedHashMap<>();
+    }
+
+    /**
+     * Registers a candidate strategy.
+     *
+     * @param name    the display name of the candidate
+     * @param factory supplier of a fresh strategy instance
+     */
+    public void addCandidate(String name, Supplier<? extends BiddingStrategy> factory) {
+        candidates.put(name, factory);
+    }
+
+    /**
+     * Replays all candidates in parallel.
+     *
+     * @return one result per candidate, in registration order
+     */
+    public List<BacktestResult> run() {
+        return candidates.entrySet()
+                .parallelStream()
+                .map(entry -> replay(entry.getKey(), entry.getValue().get()))
+                .toList();
+    }
+
+    /**
+     * Replays a single strategy against the recorded opponent.
+     *
+     * @param name     the display name of the candidate
+     * @param strategy the strategy to replay
+     * @return the outcome of the replayed match
+     * @throws ArithmeticException if the journal holds more rounds than an int can count
+     */
+    public BacktestResult replay(String name, BiddingStrategy strategy) {
+        int rounds = Math.toIntExact(journal.getRecordCount());
+        int amountOfQU = journal.getAuctionedQuantity();
+        BidHistory history = new BidHistory();
+
+        int budget = cash;
+        int quantity = 0;
+        int opponentQuantity = 0;
+        for (int round = 0; round < rounds; round++) {
+            int bid = budget > 0 ? strategy.decideStrategy(budget, history, amountOfQU) : 0;
+            bid = Math.max(0, Math.min(bid, budget));
+            int opponentBid = journal.getBid(round, opponentSlot);
+
+            if (bid > opponentBid) {
+                quantity += Lot.QUANTITY_PER_LOT;
+            } else if (bid < opponentBid) {
+                opponentQuantity += Lot.QUANTITY_PER_LOT;
+            } else {
+                quantity += Lot.QUANTITY_PER_LOT / 2;
+                opponentQuantity += Lot.QUANTITY_PER_LOT / 2;
+            }
+            budget -= bid;
+            history.add(bid, opponentBid);
+        }
+
+        int opponentBudget = rounds == 0 ? cash : journal.getBudget(rounds - 1L, opponentSlot);
+        return new BacktestResult(name, quantity, budget, opponentQuantity, opponentBudget);
+    }
+}
@@ -0,0 +1,297 @@
+package optimax.energy.de.bot;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Chronological record of the bids of past rounds for one bot, stored column by column:
+ * one growable int[] for the bot's own bids and one for the opponent's bids.
+ * A round costs 8 bytes instead of a BidsStatistic object plus a list slot, and
+ * strategies can scan a column sequentially.
+ *
+ * Aggregates that strategies ask for repeatedly (sums of bids, rounds won, tied and lost)
+ * are updated as rounds are added, so reading them costs O(1).
+ *
+ * A history can be bounded to a window of the last K rounds. It then keeps its columns in
+ * ring buffers of K entries, so its memory stays constant however long the auction runs.
+ * Round indices stay absolute: size() still counts every round played, and only rounds from
+ * getFirstRetainedRound() on can be read. The all-time aggregates keep counting every round,
+ * while the window sums cover only the retained rounds.
+ */
+public class BidHistory {
+
+    /** Capacity of a new history. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Own bid of each round. */
+    private int[] ownBids;
+    /** Opponent's bid of each round. */
+    private int[] enemyBids;
+    /** Number of rounds recorded. */
+    private int size;
+    /** Maximum number of rounds retained, or 0 if the history is unbounded. */
+    private final int window;
+
+    private long ownSum;
+    private long enemySum;
+    private int wins;
+    private int ties;
+    private int losses;
+    private long windowOwnSum;
+    private long windowEnemySum;
+
+    /**
+     * Constructs an empty, unbounded history.
+     */
+    public BidHistory() {
+        this.window = 0;
+        this.ownBids = new int[INITIAL_CAPACITY];
+        this.enemyBids = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Constructs an empty history that retains only the last rounds.
+     *
+     * @param window the number of rounds to retain, at least 1
+     * @throws IllegalArgumentException if window is less than 1
+     */
+    public BidHistory(int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Window must hold at least one round: " + window);
+        }
+        this.window = window;
+        this.ownBids = new int[window];
+        this.enemyBids = new int[window];
+    }
+
+    /**
+     * Builds a history from a list of round statistics, for code still working with BidsStatistic.
+     *
+     * @param statistics chronological list of past round statistics
+     * @return a history holding the same rounds
+     */
+    public static BidHistory of(List<BidsStatistic> statistics) {
+        BidHistory history = new BidHistory();
+        for (BidsStatistic stat : statistics) {
+            history.add(stat.getOwnBid(), stat.getEnemiesBid());
+        }
+        return history;
+    }
+
+    /**
+     * Records the bids of a round.
+     *
+     * @param own   the MU this bot bid
+     * @param enemy the MU the opponent bid
+     */
+    public void add(int own, int enemy) {
+        int index = index(size);
+        if (window > 0) {
+            if (size >= window) {
+                // Evict the oldest round, which occupies the slot being overwritten
+                windowOwnSum -= ownBids[index];
+                windowEnemySum -= enemyBids[index];
+            }
+        } else if (size == ownBids.length) {
+            ownBids = Arrays.copyOf(ownBids, size * 2);
+            enemyBids = Arrays.copyOf(enemyBids, size * 2);
+        }
+        ownBids[index] = own;
+        enemyBids[index] = enemy;
+        size++;
+
+        ownSum += own;
+        enemySum += enemy;
+        windowOwnSum += own;
+        windowEnemySum += enemy;
+        if (own > enemy) {
+            wins++;
+        } else if (own == enemy) {
+            ties++;
+        } else {
+            losses++;
+        }
+    }
+
+    /**
+     * Returns the number of rounds recorded, including rounds that left the window.
+     *
+     * @return the round count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of rounds retained.
+     *
+     * @return the window size, or 0 if the history is unbounded
+     */
+    public int getWindow() {
+        return window;
+    }
+
+    /**
+     * Returns the index of the oldest round that can still be read.
+     *
+     * @return the first retained round; 0 for an unbounded history
+     */
+    public int getFirstRetainedRound() {
+        return window > 0 ? Math.max(0, size - window) : 0;
+    }
+
+    /**
+     * Returns the number of rounds that can still be read.
+     *
+     * @return the retained round count
+     */
+    public int getRetainedRounds() {
+        return size - getFirstRetainedRound();
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the bot's own bid in a round.
+     *
+     * @param round the round index, 0 being the first round
+     * @return the own bid in MU
+     */
+    public int getOwnBid(int round) {
+        checkRound(round);
+        return ownBids[index(round)];
+    }
+
+    /**
+     * Returns the opponent's bid in a round.
+     *
+     * @param round the round index, 0 being the first round
+     * @return the opponent's bid in MU
+     */
+    public int getEnemyBid(int round) {
+        checkRound(round);
+        return enemyBids[index(round)];
+    }
+
+    /**
+     * Returns the bot's own bid in the latest round.
+     *
+     * @return the last own bid in MU
+     */
+    public int getLastOwnBid() {
+        return getOwnBid(size - 1);
+    }
+
+    /**
+     * Returns the opponent's bid in the latest round.
+     *
+     * @return the last opponent bid in MU
+     */
+    public int getLastEnemyBid() {
+        return getEnemyBid(size - 1);
+    }
+
+    /**
+     * Returns the total MU this bot has bid.
+     *
+     * @return the sum of own bids
+     */
+    public long getOwnSum() {
+        return ownSum;
+    }
+
+    /**
+     * Returns the total MU the opponent has bid.
+     *
+     * @return the sum of opponent bids
+     */
+    public long getEnemySum() {
+        return enemySum;
+    }
+
+    /**
+     * Returns the total MU this bot has bid in the retained rounds.
+     *
+     * @return the sum of own bids in the window
+     */
+    public long getWindowOwnSum() {
+        return windowOwnSum;
+    }
+
+    /**
+     * Returns the total MU the opponent has bid in the retained rounds.
+     *
+     * @return the sum of opponent bids in the window
+     */
+    public long getWindowEnemySum() {
+        return windowEnemySum;
+    }
+
+    /**
+     * Returns the number of rounds this bot outbid the opponent.
+     *
+     * @return rounds won
+     */
+    public int getWins() {
+        return wins;
+    }
+
+    /**
+     * Returns the number of rounds with equal bids.
+     *
+     * @return rounds tied
+     */
+    public int getTies() {
+        return ties;
+    }
+
+    /**
+     * Returns the number of rounds the opponent outbid this bot.
+     *
+     * @return rounds lost
+     */
+    public int getLosses() {
+        return losses;
+    }
+
+    /**
+     * Returns a read-only list view of the retained rounds, for code still working with BidsStatistic.
+     * Every element access creates a new BidsStatistic.
+     *
+     * @return the retained rounds as a list of round statistics, oldest first
+     */
+    public List<BidsStatistic> asList() {
+        return new AbstractList<>() {
+            @Override
+            public BidsStatistic get(int index) {
+                int round = getFirstRetainedRound() + index;
+                return new BidsStatistic(getOwnBid(round), getEnemyBid(round));
+            }
+
+            @Override
+            public int size() {
+                return getRetainedRounds();
+            }
+        };
+    }
+
+    /**
+     * Maps an absolute round index to its position in the columns.
+     */
+    private int index(int round) {
+        return window > 0 ? round % window : round;
+    }
+
+    /**
+     * Rejects round indices outside the retained rounds.
+     */
+    private void checkRound(int round) {
+        if (round < getFirstRetainedRound() || round >= size) {
+            throw new IndexOutOfBoundsException("Round " + round + " is not retained, "
+                    + getFirstRetainedRound() + " to " + (size - 1) + " are");
+        }
+    }
+}
@@ -29,4 +29,20 @@ public interface Bidder {
      * the bid of the other bidder
      */
     void bids(int own, int other);
+    /**
+     * Shows the bids of all bidders of a round with any number of participants.
+     * The array holds one bid per slot and is reused for the next round, so
+     * implementations must copy whatever they want to keep. By default only the
+     * own bid and the highest competing bid are passed on to bids(int, int).
+     *
+     * @param slot
+     * the slot of this bidder in roundBids
+     * @param roundBids
+     * the bids of all bidders, indexed by slot
+     * @param highestOther
+     * the highest bid placed by any other bidder
+     */
+    default void bids(int slot, int[] roundBids, int highestOther) {
+        bids(roundBids[slot], highestOther);
+    }
 }
\ No newline at end of file
@@ -1,14 +1,19 @@
 package optimax.energy.de.bot;
 
 import optimax.energy.de.strategy.BiddingStrategy;
-import java.util.ArrayList;
-import java.util.List;
+import optimax.energy.de.strategy.Seedable;
 import java.util.logging.Logger;
 
 /**
  * Abstract base class for auction participants, encapsulating common state and behavior.
  * Each Bot maintains its name, current quantity won, remaining budget, and bid history.
  * Concrete subclasses configure and apply a BiddingSrategy to decide bids.
+ *
+ * Bots are not thread-safe and need not be: the auction engine never calls into a bot from two
+ * threads at once. With a bid deadline, placeBid() runs on a worker thread, but the engine does not
+ * call placeBid() again, charge the bot, award it QU or notify it of a round until that call has
+ * returned; the charges and QU are held back and applied afterwards on the auction thread, and only
+ * the last of the rounds missed meanwhile is notified.
  */
 public abstract class Bot implements Bidder {
 
@@ -21,7 +26,7 @@ public abstract class Bot implements Bidder {
     /** Remaining monetary units (MU) this bot can use to bid. */
     protected int budget;
     /** History of past rounds' bids (own vs. opponent). */
-    public List<BidsStatistic> bidsStatistics;
+    protected BidHistory bidHistory;
     /** The bidding strategy used to determine next bid. */
     protected BiddingStrategy biddingStrategy;
     /** The fixed lot size (QU) per auction round. */
@@ -34,7 +39,7 @@ public abstract class Bot implements Bidder {
      */
     public Bot(String name) {
         this.name = name;
-        this.bidsStatistics = new ArrayList<>();
+        this.bidHistory = new BidHistory();
     }
 
     /**
@@ -54,8 +59,7 @@ public abstract class Bot implements Bidder {
     public void init(int quantity, int cash) {
         this.quantity = quantity;
         this.budget = cash;
-        logger.info("\n" + name + " has cash " + this.budget);
-        logger.info(name + " has quantity " + this.quantity + "\n");
+        logger.fine(() -> name + " has cash " + this.budget + " and quantity " + this.quantity);
     }
 
     /**
@@ -76,6 +80,15 @@ public abstract class Bot implements Bidder {
         return this.name;
     }
 
+    /**
+     * Returns the history of past rounds' bids.
+     *
+     * @return the bid history
+     */
+    public BidHistory getBidHistory() {
+        return bidHistory;
+    }
+
     /**
      * Returns the total quantity units the bot has won.
      *
@@ -85,6 +98,16 @@ public abstract class Bot implements Bidder {
         return quantity;
     }
 
+    /**
+     * Returns the strategy the bot is currently using; for bots switching strategies,
+     * the one that decided the latest bid.
+     *
+     * @return the current bidding strategy, or null if none is set
+     */
+    public BiddingStrategy getStrategy() {
+        return biddingStrategy;
+    }
+
     /**
      * Configures the bot with a new bidding strategy.
      *
@@ -94,6 +117,29 @@ public abstract class Bot implements Bidder {
         this.biddingStrategy = strategy;
     }
 
+    /**
+     * Gives the bot's random decisions a reproducible stream.
+     * Seeds the current strategy if it is random; bots juggling several strategies override this.
+     *
+     * @param seed the seed derived for this bot
+     */
+    public void seed(long seed) {
+        if (biddingStrategy instanceof Seedable seedable) {
+            seedable.seed(seed);
+        }
+    }
+
+    /**
+     * Bounds the bid history to the most recent rounds, so the memory of the bot stays
+     * constant however long the auction runs. Must be called before the auction starts,
+     * as it replaces the current history.
+     *
+     * @param window the number of rounds to retain, or 0 to keep every round
+     */
+    public void setHistoryWindow(int window) {
+        this.bidHistory = window > 0 ? new BidHistory(window) : new BidHistory();
+    }
+
     /**
      * Sets the fixed lot size (QU) before the auction begins.
      *
@@ -105,12 +151,10 @@ public abstract class Bot implements Bidder {
 
     /**
      * Checks if the bot still has funds available to bid.
-     * Logs current budget for tracing.
      *
      * @return true if budget > 0, false otherwise
      */
     public boolean hasCash() {
-        logger.info("Bot " + name + " has budget: " + budget);
         return this.budget > 0;
     }
 
@@ -140,7 +184,7 @@ public abstract class Bot implements Bidder {
      */
     @Override
     public void bids(int own, int other) {
-        bidsStatistics.add(new BidsStatistic(own, other));
+        bidHistory.add(own, other);
     }
 
     /**
@@ -149,6 +193,6 @@ public abstract class Bot implements Bidder {
     public void showBids() {
         logger.info("\nBot's name: " + name + "\n" +
                 "\n+++++++++++++++++++++++++++++++++++STAT++++++++++++++++++++++++++++++++++++++++++++++++:\n");
-        bidsStatistics.forEach(stat -> logger.info(stat.toString()));
+        bidHistory.asList().forEach(stat -> logger.info(stat.toString()));
     }
 }
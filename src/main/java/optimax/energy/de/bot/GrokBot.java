@@ -11,6 +11,6 @@ public class GrokBot extends Bot {
     @Override
     public int placeBid() {
         return hasCash() ?
-                biddingStrategy.decideStrategy(budget, bidsStatistics, amountOfQU) : 0;
+                biddingStrategy.decideStrategy(budget, bidHistory, amountOfQU) : 0;
     }
 }
\ No newline at end of file
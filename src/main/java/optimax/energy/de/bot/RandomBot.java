@@ -28,7 +28,7 @@ public class RandomBot extends Bot {
     @Override
     public int placeBid() {
         if (hasCash()) {
-            return biddingStrategy.decideStrategy(budget, bidsStatistics, amountOfQU);
+            return biddingStrategy.decideStrategy(budget, bidHistory, amountOfQU);
         }
         return 0;
     }
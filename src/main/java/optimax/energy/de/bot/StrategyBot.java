@@ -0,0 +1,37 @@
+package optimax.energy.de.bot;
+
+import optimax.energy.de.strategy.BiddingStrategy;
+
+/**
+ * A bot that always plays one fixed bidding strategy.
+ * Allows plain strategies such as PressingStrategy or SteadyStrategy to take part
+ * in auctions and tournaments without a dedicated Bot subclass.
+ */
+public class StrategyBot extends Bot {
+
+    /**
+     * Constructs a StrategyBot with the given name and strategy.
+     *
+     * @param name     the display name of the bot
+     * @param strategy the strategy used for every bid
+     */
+    public StrategyBot(String name, BiddingStrategy strategy) {
+        super(name);
+        setStrategy(strategy);
+    }
+
+    /**
+     * Determines the next bid using the assigned strategy, capped by the remaining budget.
+     * If the bot has no remaining budget, returns 0.
+     *
+     * @return the MU amount this bot will bid in the next round
+     */
+    @Override
+    public int placeBid() {
+        if (hasCash()) {
+            int bid = biddingStrategy.decideStrategy(budget, bidHistory, amountOfQU);
+            return Math.max(0, Math.min(bid, budget));
+        }
+        return 0;
+    }
+}
@@ -2,6 +2,8 @@ package optimax.energy.de.bot;
 
 import optimax.energy.de.strategy.*;
 
+import java.util.SplittableRandom;
+
 /**
  * An intelligent trading bot that adapts its bidding strategy based on the current auction state.
  * This bot uses three different strategies depending on the auction phase and remaining budget:
@@ -9,6 +11,12 @@ import optimax.energy.de.strategy.*;
  * - SteadyStrategy when budget is low (less than 10% of initial budget)
  * - MedianBasedStrategy for all other cases
  *
+ * The thresholds and offsets default to the hand-tuned values and can be replaced by a
+ * StrategyParameters vector, for example one found by the genetic tuner.
+ *
+ * In bandit mode the fixed rules are replaced by a StrategyBandit that learns online which of
+ * the three strategies earns the most QU per MU against the current opponent.
+ *
  * The bot aims to maximize the quantity won while managing budget efficiently throughout the auction.
  */
 public class TradingBot extends Bot{
@@ -16,15 +24,27 @@ public class TradingBot extends Bot{
     /** The initial budget amount set during initialization */
     private int startBudget;
 
+    /** Share of the initial budget, in percent, under which the budget counts as low */
+    private final int lowBudgetPercent;
+
     /** Strategy instance for median-based bidding */
-    private final MedianBasedStrategy medianBasedStrategy=new MedianBasedStrategy();
+    private final MedianBasedStrategy medianBasedStrategy;
 
     /** Strategy instance for random bidding */
-    private final RandomStrategy randomStrategy=new RandomStrategy();
+    private final RandomStrategy randomStrategy;
 
     /** Strategy instance for steady bidding */
     private final SteadyStrategy steadyStrategy=new SteadyStrategy();
 
+    /** Bandit choosing the strategy in bandit mode, or null for the fixed rules */
+    private StrategyBandit bandit;
+
+    /** Arm played in the last bid, or -1 if the bandit did not choose it */
+    private int lastArm = -1;
+
+    /** QU held when the last bid was placed, to tell what the round credited */
+    private int quantityAtBid;
+
     /**
      * Constructs a TradingBot with the specified name.
      *
@@ -32,13 +52,31 @@ public class TradingBot extends Bot{
      */
     public TradingBot(String name){
         super(name);
+        this.lowBudgetPercent=StrategyParameters.DEFAULTS.getLowBudgetPercent();
+        this.medianBasedStrategy=new MedianBasedStrategy();
+        this.randomStrategy=new RandomStrategy();
     }
 
     /**
      * Constructs a TradingBot with the default name.
      */
     public TradingBot(){
-        super();
+        this("Default bot");
+    }
+
+    /**
+     * Constructs a TradingBot with the specified name and strategy parameters.
+     * The random strategy starts from an unpredictable seed until the bot is seeded.
+     *
+     * @param name       the display name for this bot
+     * @param parameters the median offset, low-budget threshold and random multiplier to use;
+     *                   the pressing offset is not used
+     */
+    public TradingBot(String name, StrategyParameters parameters){
+        super(name);
+        this.lowBudgetPercent=parameters.getLowBudgetPercent();
+        this.medianBasedStrategy=new MedianBasedStrategy(parameters.getMedianOffset());
+        this.randomStrategy=new RandomStrategy(parameters.getRandomMultiplier(), new SplittableRandom().nextLong());
     }
 
     /**
@@ -56,6 +94,32 @@ public class TradingBot extends Bot{
 
     }
 
+    /**
+     * Switches the bot to bandit mode. The arms are, in order: RandomStrategy,
+     * SteadyStrategy and MedianBasedStrategy. Pass the same bandit to the bots of successive
+     * auctions against one opponent to keep what was learnt.
+     *
+     * @param bandit a bandit with three arms, or null to go back to the fixed rules
+     * @throws IllegalArgumentException if the bandit does not have three arms
+     */
+    public void setBandit(StrategyBandit bandit){
+        if (bandit != null && bandit.getArms() != 3) {
+            throw new IllegalArgumentException("TradingBot needs a bandit with 3 arms, got " + bandit.getArms());
+        }
+        this.bandit=bandit;
+        this.lastArm=-1;
+    }
+
+    /**
+     * Seeds the random strategy used at the beginning of the auction.
+     *
+     * @param seed the seed derived for this bot
+     */
+    @Override
+    public void seed(long seed) {
+        randomStrategy.seed(seed);
+    }
+
     /**
      * Determines and places the next bid using an adaptive strategy.
      * The strategy selection follows this priority:
@@ -67,7 +131,13 @@ public class TradingBot extends Bot{
      */
     @Override
     public int placeBid() {
+        lastArm = -1;
         if (hasCash()) {
+            if (bandit != null) {
+                lastArm = bandit.select();
+                quantityAtBid = quantity;
+                return playStrategy(lastArm == 0 ? randomStrategy : lastArm == 1 ? steadyStrategy : medianBasedStrategy);
+            }
             if (isBeginOfAuction()) {
                 return playStrategy(randomStrategy);
             }
@@ -79,6 +149,31 @@ public class TradingBot extends Bot{
         return 0;
     }
 
+    /**
+     * Records the bids of the last round and, in bandit mode, rewards the strategy that was played.
+     * The QU won are those credited since the bid was placed, so a lot split between several tied
+     * bidders counts with the share actually received. The net value of the round is the QU won minus
+     * the QU the bid would buy at the average price, the MU per QU the starting budget allows; MU spent
+     * counts whether the round was won or lost.
+     * The reward is the logistic of that value: 0.5 for QU bought exactly at the average price or a
+     * round lost without spending, towards 1 for QU bought cheaply and towards 0 for MU lost on
+     * overbidding or on a lost round.
+     *
+     * @param own   the MU this bot bid
+     * @param other the highest MU bid by any other bot
+     */
+    @Override
+    public void bids(int own, int other){
+        super.bids(own, other);
+        if (bandit != null && lastArm >= 0) {
+            int won = quantity - quantityAtBid;
+            double price = (double) Math.max(1, startBudget) / Math.max(1, amountOfQU);
+            double reward = 1 / (1 + Math.exp(own / price - won));
+            bandit.update(lastArm, reward);
+            lastArm = -1;
+        }
+    }
+
     /**
      * Executes the given bidding strategy and returns the calculated bid.
      * Sets the strategy for this bot and delegates the bid calculation to the strategy.
@@ -88,7 +183,7 @@ public class TradingBot extends Bot{
      */
     private int playStrategy(BiddingStrategy strategy){
         setStrategy(strategy);
-        int bid = biddingStrategy.decideStrategy(budget,bidsStatistics, amountOfQU);
+        int bid = biddingStrategy.decideStrategy(budget,bidHistory, amountOfQU);
         return bid;
     }
 
@@ -99,17 +194,17 @@ public class TradingBot extends Bot{
      * @return true if no bids have been placed yet, false otherwise
      */
     private boolean isBeginOfAuction(){
-        return bidsStatistics.isEmpty();
+        return bidHistory.isEmpty();
     }
 
     /**
-     * Checks if the remaining budget is 10% or less of the initial budget.
+     * Checks if the remaining budget is 10% (or the configured share) or less of the initial budget.
      * This condition triggers the use of SteadyStrategy for conservative bidding.
      *
-     * @return true if current budget is 10% or less of the starting budget, false otherwise
+     * @return true if current budget is at or below the low-budget share of the starting budget, false otherwise
      */
     private boolean hasLessTenPercentOfTheBudget(){
-        return budget <= startBudget / 10;
+        return budget <= (long) startBudget * lowBudgetPercent / 100;
     }
 
     /**
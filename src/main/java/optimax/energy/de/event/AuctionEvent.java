@@ -0,0 +1,83 @@
+package optimax.energy.de.event;
+
+/**
+ * A single auction event as stored in a slot of the AuctionEventBus ring buffer.
+ * Slots are preallocated and overwritten by later events, so a listener may only read
+ * an event during its onEvent() call and must copy whatever it wants to keep.
+ *
+ * Field meaning per type:
+ * - ROUND_STARTED: round
+ * - BID_PLACED: round, bidder, amount (the bid), quantity and budget before settlement
+ * - LOT_WON: round, bidder (the winner), amount (winning bid), quantity and budget after settlement
+ * - DRAW: round, amount (shared highest bid), quantity (number of tied bidders)
+ * - AUCTION_FINISHED: round (rounds played), bidder (the winner), quantity and budget of the winner
+ */
+public class AuctionEvent {
+
+    private AuctionEventType type;
+    private long auctionId;
+    private int round;
+    private String bidder;
+    private int amount;
+    private int quantity;
+    private int budget;
+
+    /**
+     * Overwrites this slot with a new event.
+     */
+    void set(AuctionEventType type, long auctionId, int round, String bidder,
+             int amount, int quantity, int budget) {
+        this.type = type;
+        this.auctionId = auctionId;
+        this.round = round;
+        this.bidder = bidder;
+        this.amount = amount;
+        this.quantity = quantity;
+        this.budget = budget;
+    }
+
+    public AuctionEventType getType() {
+        return type;
+    }
+
+    public long getAuctionId() {
+        return auctionId;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public String getBidder() {
+        return bidder;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns a human-readable description of the event for logging.
+     *
+     * @return the formatted event
+     */
+    @Override
+    public String toString() {
+        return switch (type) {
+            case ROUND_STARTED -> "Round " + round + " has started";
+            case BID_PLACED -> bidder + " submitted a bid with amount " + amount + " MU.";
+            case BID_TIMEOUT -> bidder + " missed the bid deadline, bidding " + amount + " MU.";
+            case LOT_WON -> "Winner " + bidder + " has quantity: " + quantity;
+            case DRAW -> "DRAW! " + quantity + " bidders split the lot";
+            case AUCTION_FINISHED -> bidder + " has won with quantity " + quantity + " and cash " + budget;
+        };
+    }
+}
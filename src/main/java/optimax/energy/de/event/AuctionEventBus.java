@@ -0,0 +1,257 @@
+package optimax.energy.de.event;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Publishes typed auction events to listeners through a lock-free ring buffer.
+ *
+ * Producers (the auction threads) claim a sequence number, fill the preallocated slot
+ * for that sequence and mark it as published; a single background thread drains the
+ * slots in order and hands them to the listeners. No objects or strings are created
+ * on the publishing side. While no listener is attached, publish() returns after a
+ * single volatile read, so an auction without observers pays close to nothing.
+ *
+ * When the consumer falls a full ring behind, producers wait for it instead of
+ * dropping events.
+ *
+ * The consumer thread runs only while listeners are attached: it is started with the first
+ * listener and ends once the last one is removed and the ring is drained, or when the bus is
+ * closed. While the ring is empty it parks until a producer wakes it.
+ */
+public class AuctionEventBus implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(AuctionEventBus.class.getName());
+
+    /** Default number of slots in the ring. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * Longest time the consumer parks when the ring is empty. Producers wake it earlier;
+     * the bound only covers a wake-up lost to a race with a producer.
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** How long flush() parks between checks. */
+    private static final long FLUSH_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private static final AuctionEventListener[] NO_LISTENERS = new AuctionEventListener[0];
+
+    private static final AuctionEventBus DEFAULT = new AuctionEventBus(DEFAULT_CAPACITY);
+
+    /** Preallocated event slots. */
+    private final AuctionEvent[] ring;
+    /** Sequence number last published into each slot, or -1. */
+    private final AtomicLongArray published;
+    /** Ring size minus one; the capacity is a power of two. */
+    private final int mask;
+
+    /** Next sequence number to hand out to a producer. */
+    private final AtomicLong claimed = new AtomicLong();
+    /** Next sequence number the consumer will dispatch. */
+    private final AtomicLong consumed = new AtomicLong();
+
+    /** Current listeners; replaced as a whole on every change. */
+    private volatile AuctionEventListener[] listeners = NO_LISTENERS;
+
+    /** Background consumer, started with the first listener; null while none is running. */
+    private volatile Thread consumer;
+
+    /** True while the consumer is parked on an empty ring and must be woken by producers. */
+    private volatile boolean idle;
+
+    /** Set once the bus is closed; no listener can be attached afterwards. */
+    private boolean closed;
+
+    /**
+     * Constructs a bus with the given ring capacity.
+     *
+     * @param capacity number of slots, rounded up to the next power of two
+     */
+    public AuctionEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.ring = new AuctionEvent[size];
+        this.published = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            ring[i] = new AuctionEvent();
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Returns the bus shared by all auctions that were not given their own.
+     *
+     * @return the default bus
+     */
+    public static AuctionEventBus getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Checks whether any listener is attached.
+     *
+     * @return true if published events will be delivered
+     */
+    public boolean isEnabled() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Attaches a listener and starts the consumer thread if it is not running yet.
+     *
+     * @param listener the listener to add
+     * @throws IllegalStateException if the bus is closed
+     */
+    public synchronized void addListener(AuctionEventListener listener) {
+        if (closed) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        AuctionEventListener[] current = listeners;
+        AuctionEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+        if (consumer == null) {
+            consumer = new Thread(this::drain, "auction-events");
+            consumer.setDaemon(true);
+            consumer.start();
+        }
+    }
+
+    /**
+     * Detaches a listener. Events already in the ring are delivered to the remaining listeners.
+     * When the last listener is removed, the consumer thread ends once the ring is drained.
+     *
+     * @param listener the listener to remove
+     */
+    public synchronized void removeListener(AuctionEventListener listener) {
+        listeners = Arrays.stream(listeners)
+                .filter(l -> l != listener)
+                .toArray(AuctionEventListener[]::new);
+        if (listeners.length == 0) {
+            wakeConsumer();
+        }
+    }
+
+    /**
+     * Delivers the events published so far, detaches all listeners and waits for the consumer
+     * thread to end. Events published while the bus is closing may not be delivered.
+     */
+    @Override
+    public void close() {
+        flush();
+        Thread running;
+        synchronized (this) {
+            closed = true;
+            listeners = NO_LISTENERS;
+            running = consumer;
+        }
+        if (running != null && running != Thread.currentThread()) {
+            LockSupport.unpark(running);
+            try {
+                running.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Publishes an event. Does nothing if no listener is attached.
+     *
+     * @param type      the event type
+     * @param auctionId the auction the event belongs to
+     * @param round     the round number
+     * @param bidder    the name of the bot concerned, or null
+     * @param amount    the bid amount in MU
+     * @param quantity  the QU of the bot concerned
+     * @param budget    the MU of the bot concerned
+     */
+    public void publish(AuctionEventType type, long auctionId, int round, String bidder,
+                        int amount, int quantity, int budget) {
+        if (listeners.length == 0) {
+            return;
+        }
+        long sequence = claimed.getAndIncrement();
+        while (sequence - consumed.get() >= ring.length) {
+            Thread.onSpinWait();
+        }
+        int index = (int) (sequence & mask);
+        ring[index].set(type, auctionId, round, bidder, amount, quantity, budget);
+        published.lazySet(index, sequence);
+        if (idle) {
+            wakeConsumer();
+        }
+    }
+
+    /**
+     * Blocks until every event published before this call has been delivered.
+     */
+    public void flush() {
+        long target = claimed.get();
+        while (consumer != null && consumed.get() < target) {
+            LockSupport.parkNanos(FLUSH_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Unparks the consumer thread if one is running.
+     */
+    private void wakeConsumer() {
+        Thread running = consumer;
+        if (running != null) {
+            LockSupport.unpark(running);
+        }
+    }
+
+    /**
+     * Ends the consumer if no listener is left and every claimed event has been delivered.
+     *
+     * @param next the next sequence number the consumer would deliver
+     * @return true if the consumer must stop
+     */
+    private synchronized boolean retire(long next) {
+        if (listeners.length > 0 || claimed.get() != next) {
+            return false;
+        }
+        consumer = null;
+        return true;
+    }
+
+    /**
+     * Consumer loop: delivers published slots in sequence order, parking while the ring is empty,
+     * until the last listener is gone and the ring is drained.
+     */
+    private void drain() {
+        long next = consumed.get();
+        while (true) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                if (listeners.length == 0 && retire(next)) {
+                    return;
+                }
+                idle = true;
+                if (published.get(index) != next && listeners.length > 0) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+                continue;
+            }
+            AuctionEvent event = ring[index];
+            for (AuctionEventListener listener : listeners) {
+                try {
+                    listener.onEvent(event);
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "Auction event listener failed", e);
+                }
+            }
+            next++;
+            consumed.lazySet(next);
+        }
+    }
+}
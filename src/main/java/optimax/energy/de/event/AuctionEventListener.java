@@ -0,0 +1,14 @@
+package optimax.energy.de.event;
+
+/**
+ * Receives auction events on the AuctionEventBus consumer thread.
+ */
+@FunctionalInterface
+public interface AuctionEventListener {
+    /**
+     * Handles one event. The event object is reused by the bus after this call returns.
+     *
+     * @param event the published event
+     */
+    void onEvent(AuctionEvent event);
+}
@@ -0,0 +1,19 @@
+package optimax.energy.de.event;
+
+/**
+ * Kinds of events published while an auction is running.
+ */
+public enum AuctionEventType {
+    /** A new lot round has started. */
+    ROUND_STARTED,
+    /** A bot has submitted its bid for the current round. */
+    BID_PLACED,
+    /** A bot missed the bid deadline and the default bid was placed for it. */
+    BID_TIMEOUT,
+    /** A single bot placed the highest bid and won the lot. */
+    LOT_WON,
+    /** Several bots shared the highest bid and split the lot. */
+    DRAW,
+    /** All lots have been sold and the overall winner is known. */
+    AUCTION_FINISHED
+}
@@ -0,0 +1,17 @@
+package optimax.energy.de.event;
+
+import java.util.logging.Logger;
+
+/**
+ * Writes every auction event to java.util.logging, reproducing the console output
+ * the auction used to print directly.
+ */
+public class LoggingAuctionListener implements AuctionEventListener {
+
+    private static final Logger logger = Logger.getLogger(LoggingAuctionListener.class.getName());
+
+    @Override
+    public void onEvent(AuctionEvent event) {
+        logger.info(event.toString());
+    }
+}
@@ -0,0 +1,103 @@
+package optimax.energy.de.metrics;
+
+/**
+ * Immutable copy of a LatencyHistogram at one point in time, for querying and export.
+ * Percentiles are reported as the upper bound of the bucket they fall into,
+ * capped by the largest recorded value.
+ */
+public class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of all recorded latencies.
+     *
+     * @return the total in nanoseconds
+     */
+    public long getTotalNanos() {
+        return sum;
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return the mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the largest recorded latency.
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the latency below which the given share of the recorded latencies falls.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the latency in nanoseconds, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if percentile is outside 0 to 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBound(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the number of latencies recorded in the bucket holding the given value.
+     *
+     * @param nanos a latency in nanoseconds
+     * @return the count of its bucket
+     */
+    public long getCountAt(long nanos) {
+        return counts[LatencyHistogram.bucketOf(Math.max(0, nanos))];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.1fus p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+                count, getMean() / 1000, getValueAtPercentile(50) / 1000.0,
+                getValueAtPercentile(99) / 1000.0, getValueAtPercentile(99.9) / 1000.0, max / 1000.0);
+    }
+}
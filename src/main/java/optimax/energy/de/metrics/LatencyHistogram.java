@@ -0,0 +1,132 @@
+package optimax.energy.de.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of latencies in nanoseconds with a fixed set of log-linear buckets.
+ *
+ * Values below 16 ns get a bucket each. Above that every power of two is split into 16 equal
+ * sub-buckets, so a bucket is never wider than 1/16 of its lower bound and any recorded value is
+ * known to within about 6% over the whole range of long. The 960 counters live in one
+ * AtomicLongArray allocated up front: recording is a few atomic increments and never allocates,
+ * so histograms can sit on the hot path of every bid.
+ */
+public class LatencyHistogram {
+
+    /** Bits of the value kept below the leading one bit. */
+    private static final int SUB_BUCKET_BITS = 4;
+    /** Sub-buckets per power of two. */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Number of buckets covering every non-negative long. */
+    static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Records the time elapsed since a System.nanoTime() reading.
+     *
+     * @param startNanos the reading taken before the measured call
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Copies the current state into an immutable snapshot. Recording may continue meanwhile,
+     * so a snapshot taken under load can be off by the values recorded while it was copied.
+     *
+     * @return the snapshot
+     */
+    public HistogramSnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new HistogramSnapshot(copy, count.get(), sum.get(), max.get());
+    }
+
+    /**
+     * Clears all recorded latencies.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Returns the bucket holding a non-negative value.
+     *
+     * @param value the value
+     * @return the bucket index
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Returns the smallest value falling into a bucket.
+     *
+     * @param bucket the bucket index
+     * @return the lower bound of the bucket
+     */
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << shift;
+    }
+
+    /**
+     * Returns the largest value falling into a bucket.
+     *
+     * @param bucket the bucket index
+     * @return the upper bound of the bucket
+     */
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        return lowerBound(bucket) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,89 @@
+package optimax.energy.de.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named latency histograms of the auction engine: one per bot for its placeBid() calls,
+ * one per strategy class for the bids it decided, and one for whole lot rounds.
+ *
+ * Histograms are created on first use and then looked up without allocating, so a Lot can
+ * resolve them once per auction and record every call. The registry can be queried live through
+ * the histograms or exported as a snapshot of all of them.
+ */
+public class MetricsRegistry {
+
+    /** Name of the histogram of whole lot rounds. */
+    public static final String ROUND = "lot.playRound";
+
+    private final Map<String, LatencyHistogram> bots = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LatencyHistogram> strategies = new ConcurrentHashMap<>();
+    private final LatencyHistogram rounds = new LatencyHistogram();
+
+    /**
+     * Returns the histogram of the placeBid() calls of a bot.
+     *
+     * @param botName the name of the bot
+     * @return the histogram, created on first use
+     */
+    public LatencyHistogram bidLatency(String botName) {
+        return bots.computeIfAbsent(botName, name -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the histogram of the bids decided by a strategy class, whichever bot played it.
+     *
+     * @param strategy the strategy class
+     * @return the histogram, created on first use
+     */
+    public LatencyHistogram strategyLatency(Class<?> strategy) {
+        LatencyHistogram histogram = strategies.get(strategy);
+        return histogram != null ? histogram : strategies.computeIfAbsent(strategy, type -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the histogram of whole lot rounds, bids and settlement included.
+     *
+     * @return the round histogram
+     */
+    public LatencyHistogram roundLatency() {
+        return rounds;
+    }
+
+    /**
+     * Copies every histogram. Bots are named "bot.&lt;name&gt;.placeBid", strategies
+     * "strategy.&lt;class&gt;.placeBid" and rounds {@link #ROUND}.
+     *
+     * @return the snapshots by name, in name order
+     */
+    public Map<String, HistogramSnapshot> snapshot() {
+        Map<String, HistogramSnapshot> snapshot = new TreeMap<>();
+        bots.forEach((name, histogram) -> snapshot.put("bot." + name + ".placeBid", histogram.snapshot()));
+        strategies.forEach((type, histogram) ->
+                snapshot.put("strategy." + type.getSimpleName() + ".placeBid", histogram.snapshot()));
+        snapshot.put(ROUND, rounds.snapshot());
+        return snapshot;
+    }
+
+    /**
+     * Formats a snapshot of every histogram, one line each.
+     *
+     * @return the report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        snapshot().forEach((name, histogram) ->
+                report.append(name).append(' ').append(histogram).append(System.lineSeparator()));
+        return report.toString();
+    }
+
+    /**
+     * Clears all histograms.
+     */
+    public void reset() {
+        bots.values().forEach(LatencyHistogram::reset);
+        strategies.values().forEach(LatencyHistogram::reset);
+        rounds.reset();
+    }
+}
@@ -0,0 +1,42 @@
+package optimax.energy.de.policy;
+
+/**
+ * Policy table held in a short[] on the heap. Limited to tables of up to 2^31 states.
+ */
+class HeapPolicyTable extends PolicyTable {
+
+    /** Bid of every state, in cash buckets. */
+    private final short[] bids;
+
+    /**
+     * Constructs a table with every bid being 0.
+     *
+     * @param lots     lots auctioned in total
+     * @param cash     starting MU of both bots
+     * @param cashStep MU per cash bucket
+     * @throws IllegalArgumentException if the table would not fit in a Java array
+     */
+    HeapPolicyTable(int lots, int cash, int cashStep) {
+        super(lots, cash, cashStep);
+        if (size() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Policy table of " + size()
+                    + " states is too large for the heap, solve it to a file or use a larger cash step");
+        }
+        this.bids = new short[(int) size()];
+    }
+
+    /**
+     * Stores the bids of a whole stage.
+     *
+     * @param lotsLeft  the stage
+     * @param stageBids the bids of the stage in state order, in cash buckets
+     */
+    void setStage(int lotsLeft, short[] stageBids) {
+        System.arraycopy(stageBids, 0, bids, (int) stageOffset(lotsLeft), stageBids.length);
+    }
+
+    @Override
+    int read(long index) {
+        return bids[(int) index];
+    }
+}
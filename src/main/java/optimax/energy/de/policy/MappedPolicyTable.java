@@ -0,0 +1,147 @@
+package optimax.energy.de.policy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Policy table read in place from a memory-mapped file.
+ *
+ * The file starts with a fixed 64-byte header followed by one entry per state, in the order
+ * of the flat state sequence:
+ * - int magic ("AUPT"), int version
+ * - int lots, int cash, int cash step
+ * - int entry width (1 or 2 bytes), int quantum (cash buckets per stored unit)
+ * - long state count
+ *
+ * The table is never copied to the heap: opening only maps the file read-only, pages are
+ * loaded by the OS on first access, and every JVM on the host that maps the same file shares
+ * the same physical pages. Tables far larger than the heap, or than 2 GB, can therefore be
+ * used directly. A reader can be shared by any number of threads.
+ */
+public class MappedPolicyTable extends PolicyTable implements Closeable {
+
+    /** Identifies policy table files ("AUPT"). */
+    static final int MAGIC = 0x41555054;
+    /** Current file format version. */
+    static final int VERSION = 1;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int LOTS_OFFSET = 8;
+    static final int CASH_OFFSET = 12;
+    static final int CASH_STEP_OFFSET = 16;
+    static final int WIDTH_OFFSET = 20;
+    static final int QUANTUM_OFFSET = 24;
+    static final int COUNT_OFFSET = 32;
+    /** Size of the header; the first entry follows it. */
+    static final int HEADER_SIZE = 64;
+
+    private final FileChannel channel;
+    private final PolicyEncoding encoding;
+    /** Cash buckets per stored unit. */
+    private final int quantum;
+    /** Entries held by one mapped region. */
+    private final long entriesPerRegion;
+    /** Mapped regions covering all entries. */
+    private final MappedByteBuffer[] regions;
+
+    private MappedPolicyTable(FileChannel channel, int lots, int cash, int cashStep,
+                              PolicyEncoding encoding, int quantum) throws IOException {
+        super(lots, cash, cashStep);
+        this.channel = channel;
+        this.encoding = encoding;
+        this.quantum = quantum;
+        if (channel.size() < HEADER_SIZE + size() * encoding.getWidth()) {
+            throw new IOException("Policy table file is truncated");
+        }
+
+        this.entriesPerRegion = Integer.MAX_VALUE / encoding.getWidth();
+        int regionCount = (int) ((size() + entriesPerRegion - 1) / entriesPerRegion);
+        this.regions = new MappedByteBuffer[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            long first = i * entriesPerRegion;
+            long entries = Math.min(entriesPerRegion, size() - first);
+            regions[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    HEADER_SIZE + first * encoding.getWidth(), entries * encoding.getWidth());
+        }
+    }
+
+    /**
+     * Opens and maps a policy table file.
+     *
+     * @param file the table file
+     * @return the mapped table
+     * @throws IOException if the file cannot be read or is not a complete policy table
+     */
+    public static MappedPolicyTable open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(channel.size(), HEADER_SIZE));
+            if (header.limit() < HEADER_SIZE || header.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException(file + " is not a complete policy table");
+            }
+            if (header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException(file + " has unsupported version " + header.getInt(VERSION_OFFSET));
+            }
+            MappedPolicyTable table = new MappedPolicyTable(channel,
+                    header.getInt(LOTS_OFFSET),
+                    header.getInt(CASH_OFFSET),
+                    header.getInt(CASH_STEP_OFFSET),
+                    PolicyEncoding.ofWidth(header.getInt(WIDTH_OFFSET)),
+                    header.getInt(QUANTUM_OFFSET));
+            if (table.size() != header.getLong(COUNT_OFFSET)) {
+                throw new IOException(file + " holds " + header.getLong(COUNT_OFFSET)
+                        + " states, its layout needs " + table.size());
+            }
+            return table;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes any policy table to a file that can be opened with open().
+     *
+     * @param file     the table file, replaced if it exists
+     * @param table    the table to write
+     * @param encoding how to store the bids
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, PolicyTable table, PolicyEncoding encoding) throws IOException {
+        try (PolicyTableWriter writer = new PolicyTableWriter(file, table.getLots(), table.getCash(),
+                table.getCashStep(), encoding)) {
+            for (long index = 0; index < table.size(); index++) {
+                writer.write(table.read(index));
+            }
+            writer.commit();
+        }
+    }
+
+    public PolicyEncoding getEncoding() {
+        return encoding;
+    }
+
+    @Override
+    int read(long index) {
+        MappedByteBuffer region = regions[(int) (index / entriesPerRegion)];
+        int offset = (int) (index % entriesPerRegion) * encoding.getWidth();
+        if (encoding == PolicyEncoding.SHORT) {
+            return region.getShort(offset);
+        }
+        return (region.get(offset) & 0xFF) * quantum;
+    }
+
+    /**
+     * Closes the file. The mapping itself is released once the table is garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
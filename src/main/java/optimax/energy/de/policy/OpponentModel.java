@@ -0,0 +1,20 @@
+package optimax.energy.de.policy;
+
+/**
+ * Deterministic model of an opponent's bids, as a function of the auction state seen from
+ * the opponent's side. PolicySolver computes the best response to such a model.
+ */
+@FunctionalInterface
+public interface OpponentModel {
+
+    /**
+     * Returns the bid the opponent places in a state.
+     *
+     * @param lotsLeft     lots still to be auctioned, including the current one
+     * @param cash         MU the opponent has left
+     * @param opponentCash MU its opponent (the solved bot) has left
+     * @param quDiff       QU won by the opponent minus QU won by the solved bot
+     * @return the bid in MU
+     */
+    int bid(int lotsLeft, int cash, int opponentCash, int quDiff);
+}
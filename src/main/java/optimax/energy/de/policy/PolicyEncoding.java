@@ -0,0 +1,57 @@
+package optimax.energy.de.policy;
+
+/**
+ * How the bids of a policy table are stored in a file.
+ */
+public enum PolicyEncoding {
+
+    /** One unsigned byte per state. Bids are quantized if the table has more than 256 cash buckets. */
+    BYTE(1),
+    /** One short per state; bids are stored exactly. */
+    SHORT(2);
+
+    private final int width;
+
+    PolicyEncoding(int width) {
+        this.width = width;
+    }
+
+    /**
+     * Returns the bytes used per state.
+     *
+     * @return the entry width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the number of cash buckets one stored unit stands for.
+     * Stored bids are rounded down to a multiple of it, so they never exceed the exact bid.
+     *
+     * @param buckets number of cash buckets of the table
+     * @return the quantum, 1 if bids are stored exactly
+     */
+    int quantum(int buckets) {
+        if (this == SHORT) {
+            return 1;
+        }
+        return Math.max(1, (buckets - 1 + 254) / 255);
+    }
+
+    /**
+     * Returns the encoding stored in a file header.
+     *
+     * @param width the entry width
+     * @return the matching encoding
+     * @throws IllegalArgumentException if no encoding has this width
+     */
+    static PolicyEncoding ofWidth(int width) {
+        for (PolicyEncoding encoding : values()) {
+            if (encoding.width == width) {
+                return encoding;
+            }
+        }
+        throw new IllegalArgumentException("Unknown policy entry width: " + width);
+    }
+}
@@ -0,0 +1,317 @@
+package optimax.energy.de.policy;
+
+import optimax.energy.de.simulation.Lot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+/**
+ * Solves the two-bot auction by backward induction and produces a PolicyTable.
+ *
+ * The state of the game is (lots left, own cash, opponent cash, lead in lots). Its value is the
+ * expected final result for the solved bot, 1 for a win, 0 for a draw and -1 for a loss, the winner
+ * being decided by QU and then by remaining cash. A small term for the expected final lead in lots
+ * breaks ties, so between bids with the same result the one winning more QU is preferred and a bot
+ * with no way to win still competes for every lot. Stages are solved from the last lot back to the
+ * first; each stage only needs the values of the next one, and the states of a stage are
+ * independent, so they are spread over all cores, one own-cash bucket per task.
+ *
+ * Both bots bid at the same time, so the opponent's bid is not known when the solved bot bids.
+ * By default it is modelled as uniformly distributed between half and all of the opponent's even
+ * share of its cash per lot left: a bidder spreading its cash over the lots, sometimes holding back. With an OpponentModel the
+ * solver computes the best response to that model's bids instead. The maximin() solver assumes the
+ * worst: the opponent sees the bid before answering, so the value of its table is guaranteed against
+ * any opponent, but with equal cash every line loses and the table mostly plays for the final lead.
+ *
+ * Bids above the opponent's highest possible answer plus one bucket cost more without winning more,
+ * so they are never searched. Expected values over a range of answers are read from prefix sums of
+ * the next stage's values, so every candidate bid costs O(1).
+ *
+ * Cash is counted in buckets of cashStep MU and bids are multiples of it; with a step of 1
+ * the solution is exact.
+ *
+ * A table can be solved onto the heap, or straight into a file, stage by stage, for tables
+ * too large for the heap; only two stages of values are held in memory at any time.
+ */
+public class PolicySolver {
+
+    /** Lots auctioned in total. */
+    private final int lots;
+    /** Starting MU of both bots. */
+    private final int cash;
+    /** MU per cash bucket. */
+    private final int cashStep;
+    /** Opponent answered against, or null for the default uniform opponent. */
+    private final OpponentModel opponent;
+    /** Whether the opponent is assumed to see the bid before answering. */
+    private final boolean maximin;
+    /** Weight of one lot of final lead in a value, far below the gap between two results. */
+    private final double leadWeight;
+
+    /**
+     * Constructs a solver against the default opponent, bidding uniformly between half and all
+     * of its even share of cash per lot.
+     *
+     * @param quantity total QU auctioned
+     * @param cash     starting MU of both bots
+     * @param cashStep MU per cash bucket
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public PolicySolver(int quantity, int cash, int cashStep) {
+        this(quantity, cash, cashStep, null);
+    }
+
+    /**
+     * Constructs a solver for the best response to an opponent model.
+     *
+     * @param quantity total QU auctioned
+     * @param cash     starting MU of both bots
+     * @param cashStep MU per cash bucket
+     * @param opponent model of the opponent's bids, or null for the default uniform opponent
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public PolicySolver(int quantity, int cash, int cashStep, OpponentModel opponent) {
+        this(quantity, cash, cashStep, opponent, false);
+    }
+
+    private PolicySolver(int quantity, int cash, int cashStep, OpponentModel opponent, boolean maximin) {
+        if (quantity < 0 || cash < 0 || cashStep < 1) {
+            throw new IllegalArgumentException("Invalid game: quantity " + quantity
+                    + ", cash " + cash + ", cash step " + cashStep);
+        }
+        this.lots = (quantity + Lot.QUANTITY_PER_LOT - 1) / Lot.QUANTITY_PER_LOT;
+        this.cash = cash;
+        this.cashStep = cashStep;
+        this.opponent = opponent;
+        this.maximin = maximin;
+        this.leadWeight = 1e-3 / (lots + 2);
+    }
+
+    /**
+     * Constructs a solver for the maximin policy, assuming an opponent that sees every bid before answering.
+     *
+     * @param quantity total QU auctioned
+     * @param cash     starting MU of both bots
+     * @param cashStep MU per cash bucket
+     * @return the solver
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public static PolicySolver maximin(int quantity, int cash, int cashStep) {
+        return new PolicySolver(quantity, cash, cashStep, null, true);
+    }
+
+    /**
+     * Solves the game onto the heap.
+     *
+     * @return the policy table
+     * @throws IllegalArgumentException if the table would not fit in a Java array
+     */
+    public PolicyTable solve() {
+        HeapPolicyTable table = new HeapPolicyTable(lots, cash, cashStep);
+        try {
+            solveStages(table::setStage);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return table;
+    }
+
+    /**
+     * Solves the game into a policy table file and maps it.
+     *
+     * @param file     the table file, replaced if it exists
+     * @param encoding how to store the bids
+     * @return the mapped table
+     * @throws IOException if the file cannot be written or mapped
+     */
+    public MappedPolicyTable solve(Path file, PolicyEncoding encoding) throws IOException {
+        try (PolicyTableWriter writer = new PolicyTableWriter(file, lots, cash, cashStep, encoding)) {
+            solveStages((lotsLeft, stageBids) -> writer.write(stageBids));
+            writer.commit();
+        }
+        return MappedPolicyTable.open(file);
+    }
+
+    /**
+     * Receives the bids of each solved stage, from one lot left up to all lots.
+     */
+    private interface StageSink {
+        void accept(int lotsLeft, short[] stageBids) throws IOException;
+    }
+
+    /**
+     * Solves all stages and hands their bids to the sink.
+     */
+    private void solveStages(StageSink sink) throws IOException {
+        int buckets = cash / cashStep + 1;
+        if (buckets > Short.MAX_VALUE || PolicyTable.stageSize(lots, buckets) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("A stage of " + PolicyTable.stageSize(lots, buckets)
+                    + " states is too large, use a larger cash step");
+        }
+
+        float[] next = new float[buckets * buckets * PolicyTable.leadRange(0)];
+        for (int own = 0; own < buckets; own++) {
+            for (int opp = 0; opp < buckets; opp++) {
+                for (int lead = -1; lead <= 1; lead++) {
+                    int result = lead != 0 ? lead : Integer.signum(own - opp);
+                    next[(own * buckets + opp) * PolicyTable.leadRange(0) + lead + 1] =
+                            (float) (result + leadWeight * lead);
+                }
+            }
+        }
+
+        for (int lotsLeft = 1; lotsLeft <= lots; lotsLeft++) {
+            int stage = lotsLeft;
+            float[] previous = next;
+            double[] sums = maximin ? null : prefixSums(previous, buckets, PolicyTable.leadRange(stage - 1));
+            float[] values = new float[(int) PolicyTable.stageSize(stage, buckets)];
+            short[] stageBids = new short[values.length];
+            IntStream.range(0, buckets).parallel()
+                    .forEach(own -> solveRow(buckets, stage, own, previous, sums, values, stageBids));
+            sink.accept(stage, stageBids);
+            next = values;
+        }
+    }
+
+    /**
+     * Sums the values of a stage over the opponent's cash: entry (own, opp, lead) holds the sum of
+     * the values of (own, 0..opp, lead).
+     */
+    private static double[] prefixSums(float[] values, int buckets, int range) {
+        double[] sums = new double[values.length];
+        IntStream.range(0, buckets).parallel().forEach(own -> {
+            for (int lead = 0; lead < range; lead++) {
+                double sum = 0;
+                for (int opp = 0; opp < buckets; opp++) {
+                    int index = (own * buckets + opp) * range + lead;
+                    sum += values[index];
+                    sums[index] = sum;
+                }
+            }
+        });
+        return sums;
+    }
+
+    /**
+     * Solves all states of a stage with the given own cash.
+     *
+     * @param previous  values of the stage with one lot less
+     * @param sums      prefix sums of previous over the opponent's cash, or null for maximin
+     * @param values    values of this stage, filled in
+     * @param stageBids bids of this stage, filled in
+     */
+    private void solveRow(int buckets, int lotsLeft, int own, float[] previous, double[] sums,
+                          float[] values, short[] stageBids) {
+        int range = PolicyTable.leadRange(lotsLeft);
+        for (int opp = 0; opp < buckets; opp++) {
+            for (int lead = -(lotsLeft + 1); lead <= lotsLeft + 1; lead++) {
+                int low = 0;
+                int high = opp;
+                if (!maximin) {
+                    if (opponent != null) {
+                        low = modelBid(lotsLeft, opp, own, lead);
+                        high = low;
+                    } else {
+                        low = opp / (2 * lotsLeft);
+                        high = Math.min(opp, (opp + lotsLeft - 1) / lotsLeft);
+                    }
+                }
+                double best = Double.NEGATIVE_INFINITY;
+                int bestBid = 0;
+                int maxBid = Math.min(own, high + 1);
+                for (int bid = 0; bid <= maxBid; bid++) {
+                    double value = maximin
+                            ? worstAnswer(previous, buckets, lotsLeft - 1, own - bid, opp, lead, bid)
+                            : expected(previous, sums, buckets, lotsLeft - 1, own - bid, opp, lead, bid, low, high);
+                    if (value > best) {
+                        best = value;
+                        bestBid = bid;
+                    }
+                }
+                int state = (own * buckets + opp) * range + lead + lotsLeft + 1;
+                values[state] = (float) best;
+                stageBids[state] = (short) bestBid;
+            }
+        }
+    }
+
+    /**
+     * Returns the value of a bid against the opponent's best answer: bidding nothing,
+     * matching the bid or bidding one bucket more.
+     */
+    private double worstAnswer(float[] previous, int buckets, int lotsLeft,
+                               int rest, int opp, int lead, int bid) {
+        double worst = Double.POSITIVE_INFINITY;
+        if (bid > 0) {
+            worst = Math.min(worst, value(previous, buckets, lotsLeft, rest, opp, lead + 1));
+        }
+        if (bid <= opp) {
+            worst = Math.min(worst, value(previous, buckets, lotsLeft, rest, opp - bid, lead));
+        }
+        if (bid + 1 <= opp) {
+            worst = Math.min(worst, value(previous, buckets, lotsLeft, rest, opp - bid - 1, lead - 1));
+        }
+        return worst;
+    }
+
+    /**
+     * Returns the expected value of a bid against an answer uniformly distributed over low to high:
+     * lower answers lose the lot to the bid, an equal answer splits it, higher answers win it.
+     */
+    private double expected(float[] previous, double[] sums, int buckets, int lotsLeft,
+                            int rest, int opp, int lead, int bid, int low, int high) {
+        double total = 0;
+        int beaten = Math.min(high, bid - 1);
+        if (beaten >= low) {
+            total += sumOverAnswers(previous, sums, buckets, lotsLeft, rest, opp, lead + 1, low, beaten);
+        }
+        if (bid >= low && bid <= high) {
+            total += value(previous, buckets, lotsLeft, rest, opp - bid, lead);
+        }
+        int beating = Math.max(low, bid + 1);
+        if (beating <= high) {
+            total += sumOverAnswers(previous, sums, buckets, lotsLeft, rest, opp, lead - 1, beating, high);
+        }
+        return total / (high - low + 1);
+    }
+
+    /**
+     * Sums the values of the next stage over the answers from to to, each leaving the opponent
+     * with opp minus the answer.
+     */
+    private double sumOverAnswers(float[] previous, double[] sums, int buckets, int lotsLeft,
+                                  int rest, int opp, int lead, int from, int to) {
+        int reach = lotsLeft + 1;
+        int clamped = Math.max(-reach, Math.min(reach, lead));
+        int range = PolicyTable.leadRange(lotsLeft);
+        int row = rest * buckets;
+        int column = clamped + reach;
+        double sum = sums[(row + opp - from) * range + column];
+        if (opp - to > 0) {
+            sum -= sums[(row + opp - to - 1) * range + column];
+        }
+        return sum + (to - from + 1) * leadWeight * (lead - clamped);
+    }
+
+    /**
+     * Reads a value of the stage with the given lots left. Leads beyond the tracked range
+     * already decide the auction; they are read from the outermost tracked lead, plus the
+     * tie-break of the lots the clamping dropped.
+     */
+    private double value(float[] values, int buckets, int lotsLeft, int own, int opp, int lead) {
+        int reach = lotsLeft + 1;
+        int clamped = Math.max(-reach, Math.min(reach, lead));
+        return values[(own * buckets + opp) * PolicyTable.leadRange(lotsLeft) + clamped + reach]
+                + leadWeight * (lead - clamped);
+    }
+
+    /**
+     * Asks the opponent model for its bid and converts it to a bucket within the opponent's cash.
+     */
+    private int modelBid(int lotsLeft, int opp, int own, int lead) {
+        int bid = opponent.bid(lotsLeft, opp * cashStep, own * cashStep, -lead * Lot.QUANTITY_PER_LOT);
+        return Math.max(0, Math.min(opp, (bid + cashStep - 1) / cashStep));
+    }
+}
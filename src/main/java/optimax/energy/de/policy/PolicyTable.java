@@ -0,0 +1,149 @@
+package optimax.energy.de.policy;
+
+/**
+ * Precomputed bidding policy: the bid to place in every state of a two-bot auction.
+ *
+ * A state is made of the lots still to be auctioned, the own and the opponent's cash and
+ * the QU difference between the two bots. Cash is stored in buckets of cashStep MU; bids are
+ * stored in buckets as well. All states are laid out in one flat sequence grouped by lots left,
+ * so a lookup is a handful of multiplications and a single read. Subclasses decide where the
+ * sequence lives: on the heap (HeapPolicyTable) or in a memory-mapped file (MappedPolicyTable).
+ *
+ * Tables are built by PolicySolver.
+ */
+public abstract class PolicyTable {
+
+    /** Lots auctioned in total. */
+    private final int lots;
+    /** Starting MU of both bots. */
+    private final int cash;
+    /** MU per cash bucket. */
+    private final int cashStep;
+    /** Number of cash buckets, from 0 to cash / cashStep. */
+    private final int buckets;
+    /** Start of the states of each number of lots left; index 0 is unused. */
+    private final long[] stageOffsets;
+
+    /**
+     * Constructs the layout of a table.
+     *
+     * @param lots     lots auctioned in total
+     * @param cash     starting MU of both bots
+     * @param cashStep MU per cash bucket
+     * @throws IllegalArgumentException if bids would not fit in a short
+     */
+    PolicyTable(int lots, int cash, int cashStep) {
+        this.lots = lots;
+        this.cash = cash;
+        this.cashStep = cashStep;
+        this.buckets = cash / cashStep + 1;
+        if (buckets > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many cash buckets: " + buckets + ", use a larger cash step");
+        }
+        this.stageOffsets = new long[lots + 2];
+        for (int lotsLeft = 1; lotsLeft <= lots; lotsLeft++) {
+            stageOffsets[lotsLeft + 1] = stageOffsets[lotsLeft] + stageSize(lotsLeft, buckets);
+        }
+    }
+
+    /**
+     * Returns the number of states with the given number of lots left.
+     * The lead ranges over -(lotsLeft + 1) to lotsLeft + 1 lots; the outer values stand
+     * for leads that already decide the auction.
+     */
+    static long stageSize(int lotsLeft, int buckets) {
+        return (long) buckets * buckets * leadRange(lotsLeft);
+    }
+
+    /**
+     * Returns the number of distinct leads tracked with the given number of lots left.
+     */
+    static int leadRange(int lotsLeft) {
+        return 2 * lotsLeft + 3;
+    }
+
+    public int getLots() {
+        return lots;
+    }
+
+    public int getCash() {
+        return cash;
+    }
+
+    public int getCashStep() {
+        return cashStep;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Returns the number of states stored.
+     *
+     * @return the state count over all stages
+     */
+    public long size() {
+        return stageOffsets[lots + 1];
+    }
+
+    /**
+     * Looks up the bid for a state.
+     * Own cash is rounded down and the opponent's cash is rounded up to a bucket,
+     * so the table errs on the careful side when the cash is not a multiple of the step.
+     *
+     * @param lotsLeft     lots still to be auctioned, including the current one
+     * @param ownCash      MU this bot has left
+     * @param opponentCash MU the opponent has left
+     * @param quDiff       QU won by this bot minus QU won by the opponent
+     * @return the bid in MU, never more than ownCash; 0 once no lot is left
+     */
+    public int getBid(int lotsLeft, int ownCash, int opponentCash, int quDiff) {
+        if (lotsLeft <= 0 || ownCash <= 0) {
+            return 0;
+        }
+        int stage = Math.min(lotsLeft, lots);
+        int own = Math.min(ownCash / cashStep, buckets - 1);
+        int opponent = Math.min((Math.max(opponentCash, 0) + cashStep - 1) / cashStep, buckets - 1);
+        return get(stage, own, opponent, quDiff / 2) * cashStep;
+    }
+
+    /**
+     * Returns the bid of a state in buckets.
+     *
+     * @param lotsLeft lots still to be auctioned, 1 to lots
+     * @param own      own cash bucket
+     * @param opponent opponent cash bucket
+     * @param lead     lots won by this bot minus lots won by the opponent
+     * @return the bid in cash buckets
+     */
+    int get(int lotsLeft, int own, int opponent, int lead) {
+        return read(index(lotsLeft, own, opponent, lead));
+    }
+
+    /**
+     * Returns the position of the first state with the given lots left.
+     */
+    long stageOffset(int lotsLeft) {
+        return stageOffsets[lotsLeft];
+    }
+
+    /**
+     * Returns the position of a state in the flat sequence.
+     */
+    long index(int lotsLeft, int own, int opponent, int lead) {
+        int reach = lotsLeft + 1;
+        int clamped = Math.max(-reach, Math.min(reach, lead));
+        return stageOffsets[lotsLeft]
+                + ((long) own * buckets + opponent) * leadRange(lotsLeft)
+                + clamped + reach;
+    }
+
+    /**
+     * Reads the bid, in cash buckets, stored at a position of the flat sequence.
+     *
+     * @param index the state position
+     * @return the bid in cash buckets
+     */
+    abstract int read(long index);
+}
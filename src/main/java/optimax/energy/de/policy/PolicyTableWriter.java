@@ -0,0 +1,125 @@
+package optimax.energy.de.policy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a policy table file entry by entry, in the order of the flat state sequence.
+ * Entries go through a direct buffer in large chunks. The entry count and the magic number are
+ * only written by commit(), once every entry is in; closing without committing leaves the
+ * provisional header, so a file left behind by a failed solve is never mistaken for a table.
+ */
+class PolicyTableWriter implements Closeable {
+
+    /** Size of the write buffer. */
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final PolicyEncoding encoding;
+    private final int quantum;
+    private final ByteBuffer header = ByteBuffer.allocate(MappedPolicyTable.HEADER_SIZE);
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    /** Entries written so far. */
+    private long count;
+
+    /**
+     * Creates the file and writes a provisional header.
+     *
+     * @param file     the table file, replaced if it exists
+     * @param lots     lots auctioned in total
+     * @param cash     starting MU of both bots
+     * @param cashStep MU per cash bucket
+     * @param encoding how to store the bids
+     * @throws IOException if the file cannot be created
+     */
+    PolicyTableWriter(Path file, int lots, int cash, int cashStep, PolicyEncoding encoding) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.channel = channel;
+        try {
+            this.encoding = encoding;
+            this.quantum = encoding.quantum(cash / cashStep + 1);
+
+            header.putInt(MappedPolicyTable.VERSION_OFFSET, MappedPolicyTable.VERSION);
+            header.putInt(MappedPolicyTable.LOTS_OFFSET, lots);
+            header.putInt(MappedPolicyTable.CASH_OFFSET, cash);
+            header.putInt(MappedPolicyTable.CASH_STEP_OFFSET, cashStep);
+            header.putInt(MappedPolicyTable.WIDTH_OFFSET, encoding.getWidth());
+            header.putInt(MappedPolicyTable.QUANTUM_OFFSET, quantum);
+            channel.write(header.duplicate(), 0);
+            channel.position(MappedPolicyTable.HEADER_SIZE);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the bid of the next state.
+     *
+     * @param bid the bid in cash buckets
+     * @throws IOException if the file cannot be written
+     */
+    void write(int bid) throws IOException {
+        if (buffer.remaining() < encoding.getWidth()) {
+            drain();
+        }
+        if (encoding == PolicyEncoding.SHORT) {
+            buffer.putShort((short) bid);
+        } else {
+            buffer.put((byte) (bid / quantum));
+        }
+        count++;
+    }
+
+    /**
+     * Appends the bids of a whole stage.
+     *
+     * @param stageBids the bids in cash buckets
+     * @throws IOException if the file cannot be written
+     */
+    void write(short[] stageBids) throws IOException {
+        for (short bid : stageBids) {
+            write(bid);
+        }
+    }
+
+    /**
+     * Writes the buffered entries to the file.
+     */
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Flushes the remaining entries, forces them to disk and then completes the header,
+     * marking the file as a finished table.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    void commit() throws IOException {
+        drain();
+        channel.force(true);
+        header.putLong(MappedPolicyTable.COUNT_OFFSET, count);
+        header.putInt(MappedPolicyTable.MAGIC_OFFSET, MappedPolicyTable.MAGIC);
+        channel.write(header.clear(), 0);
+        channel.force(true);
+    }
+
+    /**
+     * Closes the file. Unless commit() was called, the header stays provisional,
+     * so the file cannot be opened as a table.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,93 @@
+package optimax.energy.de.server;
+
+import optimax.energy.de.bot.Bidder;
+import optimax.energy.de.bot.Bot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Plays a local Bidder in an auction hosted by an AuctionServer.
+ * This is the reference client of the Protocol: it uses one blocking socket and maps
+ * every server message onto the matching Bidder call.
+ */
+public class AuctionClient {
+
+    private final String name;
+    private final Bidder bidder;
+
+    /**
+     * Constructs a client.
+     *
+     * @param name   the name announced to the server
+     * @param bidder the bidder answering the server's requests
+     */
+    public AuctionClient(String name, Bidder bidder) {
+        this.name = name;
+        this.bidder = bidder;
+    }
+
+    /**
+     * Connects, plays one auction and returns the final standing.
+     *
+     * @param server the server address
+     * @return the result reported by the server
+     * @throws IOException if the connection fails or the server breaks the protocol
+     */
+    public ClientResult play(InetSocketAddress server) throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.setTcpNoDelay(true);
+            socket.connect(server);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(1 + Short.BYTES + nameBytes.length);
+            out.writeByte(Protocol.HELLO);
+            out.writeShort(nameBytes.length);
+            out.write(nameBytes);
+            out.flush();
+
+            while (true) {
+                int length = in.readUnsignedShort();
+                byte type = in.readByte();
+                switch (type) {
+                    case Protocol.INIT -> init(in.readInt(), in.readInt());
+                    case Protocol.BID_REQUEST -> {
+                        out.writeShort(1 + Integer.BYTES);
+                        out.writeByte(Protocol.BID);
+                        out.writeInt(bidder.placeBid());
+                        out.flush();
+                    }
+                    case Protocol.BIDS -> bidder.bids(in.readInt(), in.readInt());
+                    case Protocol.RESULT -> {
+                        byte outcome = in.readByte();
+                        return new ClientResult(outcome == Protocol.RESULT_WIN, outcome == Protocol.RESULT_DRAW,
+                                in.readInt(), in.readInt());
+                    }
+                    case Protocol.ABORT -> throw new IOException("The server aborted the auction");
+                    default -> in.skipBytes(length - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Initializes the bidder. Bots are set up the way local auctions set them up:
+     * no QU won yet, and the auctioned quantity passed separately.
+     */
+    private void init(int quantity, int cash) {
+        if (bidder instanceof Bot bot) {
+            bot.init(0, cash);
+            bot.setAmountOfQU(quantity);
+        } else {
+            bidder.init(quantity, cash);
+        }
+    }
+}
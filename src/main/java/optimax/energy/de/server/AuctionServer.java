@@ -0,0 +1,420 @@
+package optimax.energy.de.server;
+
+import optimax.energy.de.bot.Bot;
+import optimax.energy.de.simulation.Auction;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hosts auctions for bots connecting over TCP with the binary Protocol.
+ *
+ * A single selector thread accepts connections, reads frames, plays lots and writes
+ * replies; nothing ever blocks on a client. Clients saying hello wait in a lobby until
+ * enough of them are there to start an auction, optionally joined by house bots running
+ * in the server. Each lot is opened by sending a bid request to every remote bot, and
+ * played with Auction.playNextLot() as soon as the last answer arrives, so thousands of
+ * connections and auctions share the one thread. A client that disconnects bids 0 for the
+ * rest of its auction. If the auction itself fails, for example because a house bot throws,
+ * the whole auction is aborted and every remote bot still connected is sent ABORT.
+ */
+public class AuctionServer implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(AuctionServer.class.getName());
+
+    /** Total QU auctioned in each auction. */
+    private final int quantity;
+    /** Starting MU of every bot. */
+    private final int cash;
+    /** Remote bots per auction. */
+    private final int playersPerAuction;
+    /** Factories of the house bots joining every auction. */
+    private final List<Supplier<? extends Bot>> houseBots = new ArrayList<>();
+
+    /** Remote bots waiting for an auction, in arrival order. */
+    private final ArrayDeque<RemoteBot> lobby = new ArrayDeque<>();
+    /** Connections with output to flush after the current selector pass. */
+    private final List<Connection> dirty = new ArrayList<>();
+
+    private final AtomicInteger activeAuctions = new AtomicInteger();
+    private final AtomicLong completedAuctions = new AtomicLong();
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Constructs a server; call start() to accept connections.
+     *
+     * @param quantity          total QU auctioned in each auction
+     * @param cash              starting MU of every bot
+     * @param playersPerAuction remote bots per auction
+     */
+    public AuctionServer(int quantity, int cash, int playersPerAuction) {
+        if (playersPerAuction < 1) {
+            throw new IllegalArgumentException("An auction needs at least one remote bot: " + playersPerAuction);
+        }
+        this.quantity = quantity;
+        this.cash = cash;
+        this.playersPerAuction = playersPerAuction;
+    }
+
+    /**
+     * Adds a bot run by the server itself to every auction, for example as a benchmark opponent.
+     *
+     * @param factory supplier of a fresh bot for every auction
+     */
+    public void addHouseBot(Supplier<? extends Bot> factory) {
+        houseBots.add(factory);
+    }
+
+    /**
+     * Binds the server and starts its selector thread.
+     *
+     * @param address the address to listen on; port 0 picks a free port
+     * @return the address actually bound
+     * @throws IOException if the address cannot be bound
+     * @throws IllegalStateException if an auction would have fewer than two bots
+     */
+    public InetSocketAddress start(InetSocketAddress address) throws IOException {
+        if (playersPerAuction + houseBots.size() < 2) {
+            throw new IllegalStateException("An auction needs at least two bots");
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        thread = new Thread(this::run, "auction-server");
+        thread.setDaemon(true);
+        thread.start();
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Returns the number of auctions being played.
+     *
+     * @return running auctions
+     */
+    public int getActiveAuctions() {
+        return activeAuctions.get();
+    }
+
+    /**
+     * Returns the number of auctions played to the end.
+     *
+     * @return finished auctions
+     */
+    public long getCompletedAuctions() {
+        return completedAuctions.get();
+    }
+
+    /**
+     * Stops the selector thread and closes all connections.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Selector loop: handles ready channels, then flushes every connection that got output.
+     */
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handle(key);
+                }
+                for (int i = 0; i < dirty.size(); i++) {
+                    Connection connection = dirty.get(i);
+                    try {
+                        connection.flush();
+                    } catch (IOException e) {
+                        disconnect(connection);
+                    }
+                }
+                dirty.clear();
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Auction server stopped", e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Connection connection) {
+                    connection.close();
+                }
+            }
+            try {
+                serverChannel.close();
+                selector.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not close the auction server", e);
+            }
+        }
+    }
+
+    /**
+     * Handles one ready key: accepts a client, or reads from and writes to one.
+     */
+    private void handle(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable() && !connection.read()) {
+                disconnect(connection);
+                return;
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.FINE, "Dropping connection", e);
+            disconnect(connection);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key, this));
+        }
+    }
+
+    /**
+     * Schedules a connection's output to be flushed at the end of the selector pass.
+     */
+    void markDirty(Connection connection) {
+        dirty.add(connection);
+    }
+
+    /**
+     * Handles a frame received from a client.
+     *
+     * @param connection the sending connection
+     * @param type       the message type
+     * @param payload    the frame payload
+     * @return false if the frame breaks the protocol
+     */
+    boolean onFrame(Connection connection, byte type, ByteBuffer payload) {
+        switch (type) {
+            case Protocol.HELLO -> {
+                if (connection.bot != null) {
+                    return false;
+                }
+                byte[] name = new byte[payload.getShort()];
+                payload.get(name);
+                connection.bot = new RemoteBot(new String(name, StandardCharsets.UTF_8), connection);
+                lobby.add(connection.bot);
+                matchmake();
+            }
+            case Protocol.BID -> {
+                if (connection.awaitingBid) {
+                    connection.awaitingBid = false;
+                    connection.bot.setPendingBid(payload.getInt());
+                    connection.session.onBid();
+                }
+            }
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Starts auctions while enough remote bots are waiting.
+     */
+    private void matchmake() {
+        while (lobby.size() >= playersPerAuction) {
+            List<RemoteBot> players = new ArrayList<>(playersPerAuction);
+            for (int i = 0; i < playersPerAuction; i++) {
+                players.add(lobby.poll());
+            }
+            new Session(players).begin();
+        }
+    }
+
+    /**
+     * Closes a connection and lets its auction carry on without it.
+     */
+    private void disconnect(Connection connection) {
+        if (!connection.isOpen()) {
+            return;
+        }
+        connection.close();
+        if (connection.session == null) {
+            lobby.remove(connection.bot);
+        } else if (connection.awaitingBid) {
+            connection.awaitingBid = false;
+            connection.session.onBid();
+        }
+    }
+
+    /**
+     * One auction hosted by the server, advanced lot by lot as the remote bids arrive.
+     */
+    final class Session {
+
+        private final List<RemoteBot> remotes;
+        private final List<Bot> bots;
+        private final Auction auction;
+        /** Remote bids still missing for the current lot. */
+        private int awaiting;
+        /** Set once the auction has ended or been aborted. */
+        private boolean over;
+
+        Session(List<RemoteBot> remotes) {
+            this.remotes = remotes;
+            this.bots = new ArrayList<>(remotes);
+            for (Supplier<? extends Bot> houseBot : houseBots) {
+                bots.add(houseBot.get());
+            }
+            for (Bot bot : bots) {
+                bot.init(0, cash);
+            }
+            this.auction = new Auction(quantity, bots.toArray(new Bot[0]));
+        }
+
+        void begin() {
+            activeAuctions.incrementAndGet();
+            for (RemoteBot remote : remotes) {
+                remote.getConnection().session = this;
+            }
+            try {
+                auction.begin();
+                for (RemoteBot remote : remotes) {
+                    remote.getConnection().send(Protocol.INIT, quantity, cash);
+                }
+                openNextLot();
+            } catch (RuntimeException e) {
+                abort(e);
+            }
+        }
+
+        /**
+         * Asks every connected remote bot for its bid; plays lots right away while nobody is left to ask.
+         */
+        private void openNextLot() {
+            while (!auction.isFinished()) {
+                awaiting = 0;
+                for (RemoteBot remote : remotes) {
+                    Connection connection = remote.getConnection();
+                    if (connection.isOpen()) {
+                        connection.awaitingBid = true;
+                        connection.send(Protocol.BID_REQUEST);
+                        awaiting++;
+                    }
+                }
+                if (awaiting > 0) {
+                    return;
+                }
+                auction.playNextLot();
+            }
+            end();
+        }
+
+        /**
+         * Counts a received bid, or a bidder gone, and plays the lot once all bids are in.
+         */
+        void onBid() {
+            if (over || --awaiting > 0) {
+                return;
+            }
+            try {
+                auction.playNextLot();
+                openNextLot();
+            } catch (RuntimeException e) {
+                abort(e);
+            }
+        }
+
+        private void end() {
+            auction.finish();
+            over = true;
+            for (RemoteBot remote : remotes) {
+                remote.getConnection().sendResult(outcome(remote), remote.getQuantity(), remote.getBudget());
+            }
+            activeAuctions.decrementAndGet();
+            completedAuctions.incrementAndGet();
+        }
+
+        /**
+         * Ends the auction after a failure, telling every remote bot still connected.
+         */
+        private void abort(RuntimeException failure) {
+            logger.log(Level.WARNING, "Auction aborted", failure);
+            over = true;
+            for (RemoteBot remote : remotes) {
+                Connection connection = remote.getConnection();
+                connection.awaitingBid = false;
+                if (connection.isOpen()) {
+                    connection.sendAbort();
+                }
+            }
+            activeAuctions.decrementAndGet();
+        }
+
+        /**
+         * Returns the outcome of a remote bot under the auction rules: it wins if it beats every
+         * other bot on QU, then MU, and draws if no bot beats it but one equals it.
+         */
+        private byte outcome(RemoteBot remote) {
+            boolean tied = false;
+            for (Bot other : bots) {
+                if (other == remote) {
+                    continue;
+                }
+                int byQuantity = Integer.compare(remote.getQuantity(), other.getQuantity());
+                int comparison = byQuantity != 0 ? byQuantity : Integer.compare(remote.getBudget(), other.getBudget());
+                if (comparison < 0) {
+                    return Protocol.RESULT_LOSS;
+                }
+                tied |= comparison == 0;
+            }
+            return tied ? Protocol.RESULT_DRAW : Protocol.RESULT_WIN;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package optimax.energy.de.server;
+
+/**
+ * Final standing of a remote bot, as reported by the server.
+ */
+public class ClientResult {
+
+    private final boolean winner;
+    private final boolean draw;
+    private final int quantity;
+    private final int budget;
+
+    /**
+     * Constructs a ClientResult.
+     *
+     * @param winner   whether the bot won the auction
+     * @param draw     whether the bot drew the auction
+     * @param quantity QU the bot won
+     * @param budget   MU the bot had left
+     * @throws IllegalArgumentException if the bot is both winner and drawn
+     */
+    public ClientResult(boolean winner, boolean draw, int quantity, int budget) {
+        if (winner && draw) {
+            throw new IllegalArgumentException("A result cannot be both a win and a draw");
+        }
+        this.winner = winner;
+        this.draw = draw;
+        this.quantity = quantity;
+        this.budget = budget;
+    }
+
+    public boolean isWinner() {
+        return winner;
+    }
+
+    public boolean isDraw() {
+        return draw;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientResult{winner=" + winner + ", draw=" + draw + ", quantity=" + quantity + ", budget=" + budget + "}";
+    }
+}
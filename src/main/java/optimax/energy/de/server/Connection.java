@@ -0,0 +1,171 @@
+package optimax.energy.de.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * One client connection of the auction server, used only by the server's selector thread.
+ *
+ * Incoming bytes are collected in a fixed read buffer and cut into frames; outgoing frames
+ * are appended to a write buffer that the server flushes once per selector pass, so the
+ * frames of a round reach the client in a single write whenever the socket allows it.
+ */
+class Connection {
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final AuctionServer server;
+    private final ByteBuffer in = ByteBuffer.allocate(Protocol.LENGTH_BYTES + Protocol.MAX_FRAME);
+    /** Pending output, in write mode. */
+    private ByteBuffer out = ByteBuffer.allocate(256);
+
+    /** Bot played through this connection, once the client has said hello. */
+    RemoteBot bot;
+    /** Auction the bot plays in, or null while waiting in the lobby. */
+    AuctionServer.Session session;
+    /** Whether the server waits for this client's bid for the current lot. */
+    boolean awaitingBid;
+
+    private boolean open = true;
+    /** Whether the connection is in the server's list of connections to flush. */
+    private boolean dirty;
+    /** Whether to close the connection once all output is written. */
+    private boolean closing;
+
+    Connection(SocketChannel channel, SelectionKey key, AuctionServer server) {
+        this.channel = channel;
+        this.key = key;
+        this.server = server;
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Reads the available bytes and hands every complete frame to the server.
+     *
+     * @return false if the client closed the connection or broke the protocol
+     * @throws IOException if the socket cannot be read
+     */
+    boolean read() throws IOException {
+        if (channel.read(in) < 0) {
+            return false;
+        }
+        in.flip();
+        try {
+            while (in.remaining() >= Protocol.LENGTH_BYTES) {
+                int length = in.getShort(in.position()) & 0xFFFF;
+                if (length == 0 || length > Protocol.MAX_FRAME) {
+                    return false;
+                }
+                if (in.remaining() < Protocol.LENGTH_BYTES + length) {
+                    break;
+                }
+                int end = in.position() + Protocol.LENGTH_BYTES + length;
+                in.position(in.position() + Protocol.LENGTH_BYTES);
+                byte type = in.get();
+                if (!server.onFrame(this, type, in.slice(in.position(), end - in.position()))) {
+                    return false;
+                }
+                in.position(end);
+            }
+        } finally {
+            in.compact();
+        }
+        return true;
+    }
+
+    /**
+     * Queues a frame without payload.
+     */
+    void send(byte type) {
+        reserve(1).put(type);
+    }
+
+    /**
+     * Queues a frame with two int values.
+     */
+    void send(byte type, int first, int second) {
+        reserve(1 + 2 * Integer.BYTES).put(type).putInt(first).putInt(second);
+    }
+
+    /**
+     * Queues the RESULT frame and closes the connection once it is written.
+     */
+    void sendResult(byte outcome, int quantity, int budget) {
+        reserve(2 + 2 * Integer.BYTES).put(Protocol.RESULT).put(outcome)
+                .putInt(quantity).putInt(budget);
+        closing = true;
+    }
+
+    /**
+     * Queues the ABORT frame and closes the connection once it is written.
+     */
+    void sendAbort() {
+        send(Protocol.ABORT);
+        closing = true;
+    }
+
+    /**
+     * Makes room for a frame, writes its length prefix and schedules a flush.
+     *
+     * @return the write buffer, positioned after the length prefix
+     */
+    private ByteBuffer reserve(int length) {
+        int needed = Protocol.LENGTH_BYTES + length;
+        if (out.remaining() < needed) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + needed));
+            out.flip();
+            larger.put(out);
+            out = larger;
+        }
+        if (!dirty && open) {
+            dirty = true;
+            server.markDirty(this);
+        }
+        return out.putShort((short) length);
+    }
+
+    /**
+     * Writes as much pending output as the socket accepts and waits for writability if
+     * something is left. Closes the connection if it was closing and everything is written.
+     *
+     * @throws IOException if the socket cannot be written
+     */
+    void flush() throws IOException {
+        dirty = false;
+        if (!open) {
+            return;
+        }
+        out.flip();
+        channel.write(out);
+        out.compact();
+        if (out.position() > 0) {
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        } else {
+            key.interestOps(SelectionKey.OP_READ);
+            if (closing) {
+                close();
+            }
+        }
+    }
+
+    /**
+     * Closes the socket; further output is dropped.
+     */
+    void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing left to do with a broken connection
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package optimax.energy.de.server;
+
+/**
+ * Binary protocol between the auction server and remote bots.
+ *
+ * Every message is a frame: an unsigned short with the number of bytes that follow,
+ * a one-byte message type and the payload. Numbers are big-endian ints.
+ *
+ * Client to server:
+ * - HELLO: short name length, UTF-8 name; asks to join the next auction
+ * - BID: int bid; answers a BID_REQUEST (Bidder.placeBid)
+ *
+ * Server to client:
+ * - INIT: int quantity, int cash; the auction starts (Bidder.init)
+ * - BID_REQUEST: no payload; the next lot is open for bids
+ * - BIDS: int own bid, int opponent bid; the lot is settled (Bidder.bids)
+ * - RESULT: byte outcome (RESULT_LOSS, RESULT_WIN or RESULT_DRAW), int QU won, int MU left;
+ *   the server closes the connection afterwards
+ * - ABORT: no payload; the auction was aborted by a failure on the server, which closes the
+ *   connection afterwards
+ *
+ * The outcome follows the auction rules: most QU wins, equal QU go to the bot with more MU left,
+ * and bots equal on both draw.
+ */
+public final class Protocol {
+
+    public static final byte HELLO = 1;
+    public static final byte BID = 2;
+
+    public static final byte INIT = 10;
+    public static final byte BID_REQUEST = 11;
+    public static final byte BIDS = 12;
+    public static final byte RESULT = 13;
+    public static final byte ABORT = 14;
+
+    /** RESULT outcome of a bot that lost the auction. */
+    public static final byte RESULT_LOSS = 0;
+    /** RESULT outcome of the sole winner of the auction. */
+    public static final byte RESULT_WIN = 1;
+    /** RESULT outcome of a bot sharing the best standing with another one. */
+    public static final byte RESULT_DRAW = 2;
+
+    /** Size of the length prefix of a frame. */
+    static final int LENGTH_BYTES = Short.BYTES;
+    /** Largest frame body accepted, in bytes. */
+    static final int MAX_FRAME = 1024;
+
+    private Protocol() {
+    }
+}
@@ -0,0 +1,53 @@
+package optimax.energy.de.server;
+
+import optimax.energy.de.bot.Bot;
+
+/**
+ * Server-side stand-in for a bot playing over the network.
+ *
+ * The server only plays a lot once every remote bot has answered its bid request, so
+ * placeBid() never waits: it returns the bid received for the current lot, clamped to the
+ * budget. Bot outcomes are forwarded to the client as BIDS frames. A bot whose client has
+ * disconnected bids 0 for the rest of the auction and is sent nothing more.
+ */
+class RemoteBot extends Bot {
+
+    /** Connection of the client playing this bot. */
+    private final Connection connection;
+    /** Bid received for the current lot. */
+    private int pendingBid;
+
+    RemoteBot(String name, Connection connection) {
+        super(name);
+        this.connection = connection;
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Stores the bid received for the current lot.
+     *
+     * @param bid the bid sent by the client
+     */
+    void setPendingBid(int bid) {
+        this.pendingBid = bid;
+    }
+
+    @Override
+    public int placeBid() {
+        if (!hasCash() || !connection.isOpen()) {
+            return 0;
+        }
+        return Math.max(0, Math.min(pendingBid, budget));
+    }
+
+    @Override
+    public void bids(int own, int other) {
+        super.bids(own, other);
+        if (connection.isOpen()) {
+            connection.send(Protocol.BIDS, own, other);
+        }
+    }
+}
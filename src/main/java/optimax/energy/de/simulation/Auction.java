@@ -1,7 +1,15 @@
 package optimax.energy.de.simulation;
 
 import optimax.energy.de.bot.Bot;
+import optimax.energy.de.event.AuctionEventBus;
+import optimax.energy.de.event.AuctionEventType;
+import optimax.energy.de.metrics.MetricsRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 /**
@@ -10,19 +18,59 @@ import java.util.logging.Logger;
  * Each Bot participant bids for each lot, pays its bid regardless of outcome,
  * and receives QU according to the auction rules:
  * - Highest bidder wins all QU_PER_LOT;
- * - Ties grant each bidder half of QU_PER_LOT;
+ * - Ties split QU_PER_LOT evenly between the bidders sharing the highest bid;
  * The overall winner is the bot with the most QU; in case of a tie, the one with
  * the higher remaining budget wins.
+ *
+ * Progress is reported as typed events on an AuctionEventBus rather than logged directly;
+ * attach a LoggingAuctionListener to the bus to print it.
+ *
+ * start() runs the whole auction in one call. Hosts that must not block between lots, such as
+ * the auction server waiting for remote bids, drive the same steps themselves:
+ * begin(), then playNextLot() until isFinished(), then finish().
  */
 public class Auction {
     private static final Logger logger = Logger.getLogger(Auction.class.getName());
 
+    /** Source of unique auction ids for event correlation. */
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
+
     /** List of bots participating in the auction. */
     private final List<Bot> participants;
 
     /** Remaining quantity units to be auctioned (starts at x and decreases by QUANTITY_PER_LOT). */
     private int quantity;
 
+    /** Lot engine reused for every round; created once the participants are known. */
+    private Lot lot;
+
+    /** Identifies this auction's events on a shared bus. */
+    private final long id = NEXT_ID.getAndIncrement();
+
+    /** Bus receiving this auction's events. */
+    private AuctionEventBus events = AuctionEventBus.getDefault();
+
+    /** File the rounds are journaled to, or null if journaling is off. */
+    private Path journalFile;
+
+    /** Master seed of the participants' random streams, or null to leave them unseeded. */
+    private Long seed;
+
+    /** Journal of the running auction, or null if journaling is off or the auction is not running. */
+    private AuctionJournal journal;
+
+    /** Time each bot has per bid in nanoseconds, or 0 if bids have no deadline. */
+    private long bidDeadlineNanos;
+
+    /** Bid placed for a bot that missed the deadline. */
+    private int timeoutBid;
+
+    /** Registry receiving bid and round latencies, or null if they are not measured. */
+    private MetricsRegistry metrics;
+
+    /** Whether the auction stops as soon as its winner is decided. */
+    private boolean fastFinish;
+
     /**
      * Constructs a new Auction with the given total quantity and participants.
      * Each bot is initialized with the starting budget equal to the total quantity.
@@ -51,6 +99,96 @@ public class Auction {
         this.quantity = quantity;
     }
 
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Routes this auction's events to the given bus instead of the default one.
+     *
+     * @param events the bus to publish to
+     */
+    public void setEventBus(AuctionEventBus events) {
+        this.events = events;
+    }
+
+    /**
+     * Makes the auction reproducible: when it starts, every participant is seeded
+     * with a stream derived from this master seed and its slot.
+     *
+     * @param seed the master seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Records every round of the auction to a binary journal file when the auction is started.
+     *
+     * @param journalFile the journal file to create, or null to disable journaling
+     */
+    public void setJournalFile(Path journalFile) {
+        this.journalFile = journalFile;
+    }
+
+    /**
+     * Gives every bot a limited time per bid, so that a slow or hung bot cannot stall the auction.
+     * A bot missing the deadline bids the default instead, capped by its budget.
+     *
+     * @param timeout    the time each bot has per bid, or 0 to wait indefinitely
+     * @param unit       the unit of the timeout
+     * @param defaultBid the bid used for a bot that missed the deadline
+     * @throws IllegalArgumentException if timeout or defaultBid is negative
+     * @see Lot#setBidDeadline(long, TimeUnit, int)
+     */
+    public void setBidDeadline(long timeout, TimeUnit unit, int defaultBid) {
+        if (timeout < 0 || defaultBid < 0) {
+            throw new IllegalArgumentException("Timeout and default bid must not be negative: "
+                    + timeout + ", " + defaultBid);
+        }
+        this.bidDeadlineNanos = unit.toNanos(timeout);
+        this.timeoutBid = defaultBid;
+    }
+
+    /**
+     * Records the latency of every bid, per bot and per strategy, and of every lot to the given registry.
+     *
+     * @param metrics the registry to record to, or null to disable measuring
+     */
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Stops the auction as soon as the leader has more QU than any other bot could still reach,
+     * instead of playing the remaining lots. The winner is the same as with all lots played, but
+     * the remaining quantity is left unsold and the bots keep the MU they would have spent on it.
+     *
+     * @param fastFinish true to stop once the outcome is decided
+     */
+    public void setFastFinish(boolean fastFinish) {
+        this.fastFinish = fastFinish;
+    }
+
+    /**
+     * Returns the number of lots left unplayed because the outcome was decided early.
+     *
+     * @return the skipped lots, 0 unless the auction was fast-finished
+     */
+    public int getSkippedLots() {
+        return quantity > 0 && isFinished() ? remainingLots() : 0;
+    }
+
+    /**
+     * Returns how many bids the participant in the given slot has missed the deadline for.
+     *
+     * @param slot the participant's index in the order of joining
+     * @return the number of timed out bids, 0 before the auction has begun
+     */
+    public int getTimeouts(int slot) {
+        return lot == null ? 0 : lot.getTimeouts(slot);
+    }
+
     /**
      * Adds one or more bots to the auction and sets their initial state.
      * Each bot's internal quantity and budget are initialized to the auction parameters.
@@ -61,62 +199,200 @@ public class Auction {
         for (Bot bidder : bidders) {
             participants.add(bidder);
             bidder.setAmountOfQU(quantity);
-            logger.info(bidder.getName() + " has joined the auction");
+            logger.fine(() -> bidder.getName() + " has joined the auction");
         }
     }
 
     /**
      * Runs the auction until all quantity is distributed.
-     * Each iteration runs one lot, then determines and logs the overall winner.
+     * Each iteration runs one lot, then determines and announces the overall winner.
+     * If a journal file is set, every round is appended to it.
+     *
+     * @throws UncheckedIOException if the journal cannot be written
      */
     public void start() {
-        logger.info("\nAuction begins!");
+        begin();
+        try {
+            while (!isFinished()) {
+                playNextLot();
+            }
+        } catch (RuntimeException | Error e) {
+            try {
+                abandon();
+            } catch (RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        finish();
+    }
+
+    /**
+     * Prepares the auction for its first lot: seeds the participants, creates the lot engine
+     * and opens the journal if one is set.
+     *
+     * @throws UncheckedIOException if the journal cannot be created
+     */
+    public void begin() {
+        if (seed != null) {
+            for (int slot = 0; slot < participants.size(); slot++) {
+                participants.get(slot).seed(Seeds.derive(seed, slot));
+            }
+        }
+        lot = new Lot(participants, events, id);
+        if (bidDeadlineNanos > 0) {
+            lot.setBidDeadline(bidDeadlineNanos, TimeUnit.NANOSECONDS, timeoutBid);
+        }
+        if (metrics != null) {
+            lot.setMetrics(metrics);
+        }
+        if (journalFile != null) {
+            try {
+                journal = new AuctionJournal(journalFile, participants, quantity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Plays the next lot and journals it.
+     *
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    public void playNextLot() {
+        processNextLot();
+        if (journal != null) {
+            try {
+                journal.append(lot);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Checks whether all quantity has been auctioned or, in fast-finish mode, the outcome is decided.
+     *
+     * @return true once no lot needs to be played
+     */
+    public boolean isFinished() {
+        return quantity <= 0 || fastFinish && isDecided();
+    }
 
-        while (quantity > 0) {
-            processNextLot();
+    /**
+     * Checks whether the QU leader is out of reach: even if another bot won every remaining lot,
+     * it would still have fewer QU than the leader. Budgets cannot settle a tie on QU early,
+     * since the leader may still spend any of its MU, so only a strict QU lead counts.
+     *
+     * @return true if the winner can no longer change
+     */
+    public boolean isDecided() {
+        if (participants.size() < 2) {
+            return !participants.isEmpty();
         }
+        int first = Integer.MIN_VALUE;
+        int second = Integer.MIN_VALUE;
+        for (int slot = 0; slot < participants.size(); slot++) {
+            int won = participants.get(slot).getQuantity() + (lot == null ? 0 : lot.getHeldQuantity(slot));
+            if (won > first) {
+                second = first;
+                first = won;
+            } else if (won > second) {
+                second = won;
+            }
+        }
+        return first > second + (long) remainingLots() * Lot.QUANTITY_PER_LOT;
+    }
 
-        // Optionally display bidding history for the first participant
-        participants.get(0).showBids();
+    /**
+     * Returns the number of lots still to be played; an odd last QU is played as a full lot.
+     */
+    private int remainingLots() {
+        return Math.max(0, (quantity + Lot.QUANTITY_PER_LOT - 1) / Lot.QUANTITY_PER_LOT);
+    }
 
+    /**
+     * Closes the journal, then determines and announces the winner. Bid calls still running past
+     * their deadline are cancelled and the results held back for their bots are applied first.
+     *
+     * @return the winner of the auction
+     * @throws UncheckedIOException if the journal cannot be closed
+     */
+    public Bot finish() {
+        closeJournal();
+        if (lot != null) {
+            lot.releaseAll();
+        }
         Bot winner = isDrawByQuantity() ? handleDraw() : determineWinnerOfTheAuction();
         displayWinner(winner);
+        return winner;
+    }
+
+    /**
+     * Ends an auction that stops without finish(), because it failed or was cancelled: closes the
+     * journal and cancels the bid calls still running past their deadline. Used by start() and by
+     * AuctionScheduler.
+     *
+     * @throws UncheckedIOException if the journal cannot be closed
+     */
+    void abandon() {
+        try {
+            closeJournal();
+        } finally {
+            if (lot != null) {
+                lot.releaseAll();
+            }
+        }
+    }
 
-        logger.info("\nAuction has finished");
+    /**
+     * Closes the journal if one is open.
+     *
+     * @throws UncheckedIOException if the journal cannot be closed
+     */
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                journal = null;
+            }
+        }
     }
 
     /**
-     * Conducts a single lot: creates a new Lot, decreases the remaining quantity,
-     * and executes the bidding round.
+     * Conducts a single lot: decreases the remaining quantity
+     * and executes the bidding round on the shared Lot.
      */
     private void processNextLot() {
-        logger.info("Round has started");
-        Lot lot = new Lot(participants);
         quantity -= Lot.QUANTITY_PER_LOT;
         lot.playRound();
-        logger.info("Round has finished \n");
     }
 
     /**
-     * Determines the overall winner by comparing total QU won.
+     * Determines the overall winner by comparing total QU won,
+     * using the remaining budget to decide between bots with equal QU.
      *
      * @return the bot with the greatest quantity won
      */
     public Bot determineWinnerOfTheAuction() {
         return participants.stream()
-                .max(Comparator.comparing(Bot::getQuantity))
+                .max(Comparator.comparing(Bot::getQuantity).thenComparing(Bot::getBudget))
                 .orElseThrow(NoSuchElementException::new);
     }
 
     /**
      * Checks if the auction ends in a draw on QU, by seeing if all bots have
-     * placed identical final budgets (after bidding). If so, the budget tie-breaker applies.
+     * won the same quantity. If so, the budget tie-breaker applies.
      *
-     * @return true if budgets are identical for all participants
+     * @return true if the QU won are identical for all participants
      */
     public boolean isDrawByQuantity() {
         return participants.stream()
-                .map(Bot::getBudget)
+                .map(Bot::getQuantity)
                 .distinct()
                 .count() == 1;
     }
@@ -133,12 +409,12 @@ public class Auction {
     }
 
     /**
-     * Logs the name and final QU count of the winning bot.
+     * Publishes the name, final QU count and remaining cash of the winning bot.
      *
      * @param winner the overall auction winner
      */
     private void displayWinner(Bot winner) {
-        logger.info(winner.getName() + " has won with quantity " + winner.getQuantity()+" and cash "+winner.getBudget());
-
+        events.publish(AuctionEventType.AUCTION_FINISHED, id, lot.getRound(), winner.getName(),
+                0, winner.getQuantity(), winner.getBudget());
     }
 }
@@ -0,0 +1,222 @@
+package optimax.energy.de.simulation;
+
+import optimax.energy.de.bot.Bot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only binary journal of the rounds of one auction.
+ *
+ * The file starts with a header describing the auction and its participants, followed by one fixed-width
+ * record per round:
+ * - int round number
+ * - for every participant slot: int bid, int quantity and int budget after the round
+ *
+ * Records are written straight into a memory-mapped region of the file, which is extended
+ * in large chunks, so appending a round costs no system call and creates no objects.
+ * The record count in the header is updated with every append, so the journal stays
+ * readable with JournalReader even if the process dies before close().
+ */
+public class AuctionJournal implements Closeable {
+
+    private static final Logger logger = Logger.getLogger(AuctionJournal.class.getName());
+
+    /** Identifies journal files ("AUJN"). */
+    static final int MAGIC = 0x41554A4E;
+    /** Current file format version. */
+    static final int VERSION = 1;
+
+    /** Header offset of the magic number. */
+    static final int MAGIC_OFFSET = 0;
+    /** Header offset of the format version. */
+    static final int VERSION_OFFSET = 4;
+    /** Header offset of the participant count. */
+    static final int PARTICIPANTS_OFFSET = 8;
+    /** Header offset of the record size in bytes. */
+    static final int RECORD_SIZE_OFFSET = 12;
+    /** Header offset of the number of records written. */
+    static final int COUNT_OFFSET = 16;
+    /** Header offset of the position of the first record. */
+    static final int DATA_OFFSET_OFFSET = 24;
+    /** Header offset of the total QU auctioned. */
+    static final int QUANTITY_OFFSET = 28;
+    /** Header offset of the participant names. */
+    static final int NAMES_OFFSET = 32;
+
+    /** Target size of one mapped region of records. */
+    private static final int REGION_BYTES = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    /** Participants in slot order. */
+    private final Bot[] participants;
+    /** Bytes per record. */
+    private final int recordSize;
+    /** File position of the first record. */
+    private final int dataOffset;
+    /** Records held by one mapped region. */
+    private final int recordsPerRegion;
+
+    /** Mapped header, used to keep the record count up to date; null once closed. */
+    private MappedByteBuffer header;
+    /** Currently mapped region of records; null before the first append and once closed. */
+    private MappedByteBuffer region;
+    /** Records written so far. */
+    private long count;
+
+    /**
+     * Creates a new journal file for the given participants, replacing any existing file.
+     *
+     * @param file         the journal file
+     * @param participants the bots in slot order
+     * @param quantity     the total QU auctioned
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public AuctionJournal(Path file, List<Bot> participants, int quantity) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.channel = channel;
+        try {
+            this.participants = participants.toArray(new Bot[0]);
+            this.recordSize = recordSize(this.participants.length);
+            this.recordsPerRegion = Math.max(1, REGION_BYTES / recordSize);
+            this.dataOffset = writeHeader(quantity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps the header and writes the file layout and participant names into it.
+     *
+     * @return the file position of the first record
+     */
+    private int writeHeader(int quantity) throws IOException {
+        byte[][] names = new byte[participants.length][];
+        int namesSize = 0;
+        for (int slot = 0; slot < names.length; slot++) {
+            names[slot] = participants[slot].getName().getBytes(StandardCharsets.UTF_8);
+            namesSize += Short.BYTES + names[slot].length;
+        }
+        int dataOffset = align(NAMES_OFFSET + namesSize);
+
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, dataOffset);
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(PARTICIPANTS_OFFSET, participants.length);
+        header.putInt(RECORD_SIZE_OFFSET, recordSize);
+        header.putLong(COUNT_OFFSET, 0);
+        header.putInt(DATA_OFFSET_OFFSET, dataOffset);
+        header.putInt(QUANTITY_OFFSET, quantity);
+        header.position(NAMES_OFFSET);
+        for (byte[] name : names) {
+            header.putShort((short) name.length);
+            header.put(name);
+        }
+        return dataOffset;
+    }
+
+    /**
+     * Returns the size of one record for the given number of participants.
+     *
+     * @param participants number of participant slots
+     * @return bytes per record
+     */
+    static int recordSize(int participants) {
+        return Integer.BYTES + participants * 3 * Integer.BYTES;
+    }
+
+    /**
+     * Appends the outcome of the round the lot has just played.
+     *
+     * @param lot the lot engine of the auction, after playRound()
+     * @throws IOException if the next region of the file cannot be mapped
+     */
+    public void append(Lot lot) throws IOException {
+        if (region == null || !region.hasRemaining()) {
+            mapNextRegion();
+        }
+        region.putInt(lot.getRound());
+        for (int slot = 0; slot < participants.length; slot++) {
+            Bot bot = participants[slot];
+            region.putInt(lot.getBid(slot));
+            region.putInt(bot.getQuantity());
+            region.putInt(bot.getBudget());
+        }
+        count++;
+        header.putLong(COUNT_OFFSET, count);
+    }
+
+    /**
+     * Returns the number of records written so far.
+     *
+     * @return the record count
+     */
+    public long getRecordCount() {
+        return count;
+    }
+
+    /**
+     * Maps the region following the last written record; mapping past the end grows the file.
+     */
+    private void mapNextRegion() throws IOException {
+        long position = dataOffset + count * recordSize;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) recordsPerRegion * recordSize);
+    }
+
+    /**
+     * Writes the mapped header and records back to the file, cuts off the unused part of the last
+     * region and closes the file.
+     *
+     * The mappings stay alive until they are garbage collected, as Java cannot unmap a buffer, so the
+     * file is truncated while still mapped. Platforms that refuse to shrink a mapped file, such as
+     * Windows, leave the unused part in place; JournalReader only reads the records counted in the
+     * header, so the journal stays readable either way.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (header != null) {
+                header.force();
+                header = null;
+            }
+            if (region != null) {
+                region.force();
+                region = null;
+            }
+            try {
+                channel.truncate(dataOffset + count * recordSize);
+            } catch (IOException e) {
+                logger.log(Level.FINE, "Could not truncate the mapped journal", e);
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Rounds a header size up to a multiple of 8 bytes.
+     */
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+
+    /**
+     * Reads a participant name written at the current position of the buffer.
+     */
+    static String readName(ByteBuffer buffer) {
+        byte[] name = new byte[buffer.getShort()];
+        buffer.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+}
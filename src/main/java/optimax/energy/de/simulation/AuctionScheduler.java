@@ -0,0 +1,244 @@
+package optimax.energy.de.simulation;
+
+import optimax.energy.de.bot.Bot;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs many independent auctions at once on a small pool of threads.
+ *
+ * An auction does not own a thread. It is a task that plays a single lot with the step API
+ * of Auction and then goes back to the end of the pool's queue, so the rounds of all running
+ * auctions are interleaved fairly and tens of thousands of auctions can be live on a few threads.
+ * Only one lot of an auction runs at a time, so the bots need no synchronization.
+ *
+ * Admission control bounds the work in flight: at most maxActive auctions are played at once,
+ * further submissions wait in a backlog of queueCapacity auctions, and anything beyond is rejected.
+ * Every submission returns a future completing with the winner of the auction.
+ */
+public class AuctionScheduler implements AutoCloseable {
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+
+    /** Threads playing the lots. */
+    private final ExecutorService workers;
+
+    /** Maximum number of auctions played at once. */
+    private final int maxActive;
+
+    /** Maximum number of admitted auctions waiting for a free place. */
+    private final int queueCapacity;
+
+    /** Admitted auctions waiting for a free place; guarded by this. */
+    private final Queue<AuctionTask> backlog = new ArrayDeque<>();
+
+    /** Number of auctions being played; guarded by this. */
+    private int active;
+
+    /** Number of auctions that have ended, successfully or not; guarded by this. */
+    private long completed;
+
+    /** Set once the scheduler is closed; guarded by this. */
+    private boolean closed;
+
+    /**
+     * Creates a scheduler with one thread per core and a backlog as large as the active limit.
+     *
+     * @param maxActive maximum number of auctions played at once
+     */
+    public AuctionScheduler(int maxActive) {
+        this(Runtime.getRuntime().availableProcessors(), maxActive, maxActive);
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param threads       number of threads playing lots
+     * @param maxActive     maximum number of auctions played at once
+     * @param queueCapacity maximum number of auctions waiting for admission
+     * @throws IllegalArgumentException if threads or maxActive is less than 1, or queueCapacity is negative
+     */
+    public AuctionScheduler(int threads, int maxActive, int queueCapacity) {
+        if (threads < 1 || maxActive < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Invalid scheduler limits: threads=" + threads
+                    + ", maxActive=" + maxActive + ", queueCapacity=" + queueCapacity);
+        }
+        this.maxActive = maxActive;
+        this.queueCapacity = queueCapacity;
+        int schedulerId = NEXT_ID.getAndIncrement();
+        AtomicInteger nextThread = new AtomicInteger(1);
+        this.workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task,
+                    "auction-scheduler-" + schedulerId + "-" + nextThread.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Admits an auction for playing. The auction must have all its participants and must not have begun.
+     * Cancelling the returned future stops the auction before its next lot.
+     *
+     * @param auction the auction to play
+     * @return a future completing with the winner, or exceptionally if the auction fails
+     * @throws RejectedExecutionException if the scheduler is closed or the backlog is full
+     */
+    public CompletableFuture<Bot> submit(Auction auction) {
+        AuctionTask task = new AuctionTask(auction);
+        synchronized (this) {
+            if (closed) {
+                throw new RejectedExecutionException("Scheduler is closed");
+            }
+            if (active >= maxActive) {
+                if (backlog.size() >= queueCapacity) {
+                    throw new RejectedExecutionException("Too many auctions: " + active
+                            + " active and " + backlog.size() + " waiting");
+                }
+                backlog.add(task);
+                return task.result;
+            }
+            active++;
+        }
+        execute(task);
+        return task.result;
+    }
+
+    /**
+     * Returns the number of auctions being played.
+     *
+     * @return active auctions
+     */
+    public synchronized int getActiveAuctions() {
+        return active;
+    }
+
+    /**
+     * Returns the number of admitted auctions waiting for a free place.
+     *
+     * @return waiting auctions
+     */
+    public synchronized int getQueuedAuctions() {
+        return backlog.size();
+    }
+
+    /**
+     * Returns the number of auctions that have ended, including failed and cancelled ones.
+     *
+     * @return ended auctions
+     */
+    public synchronized long getCompletedAuctions() {
+        return completed;
+    }
+
+    /**
+     * Stops the scheduler. Auctions that have not finished yet are cancelled.
+     */
+    @Override
+    public void close() {
+        List<AuctionTask> waiting;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            waiting = List.copyOf(backlog);
+            backlog.clear();
+            completed += waiting.size();
+        }
+        for (AuctionTask task : waiting) {
+            task.result.cancel(false);
+        }
+        for (Runnable task : workers.shutdownNow()) {
+            ((AuctionTask) task).stop(new CancellationException("Scheduler closed"));
+        }
+    }
+
+    /**
+     * Frees the place of an ended auction and hands it to the next waiting one.
+     */
+    private void release() {
+        AuctionTask next;
+        synchronized (this) {
+            completed++;
+            next = closed ? null : backlog.poll();
+            if (next == null) {
+                active--;
+                return;
+            }
+        }
+        execute(next);
+    }
+
+    /**
+     * Queues a task on the pool, stopping its auction if the pool no longer accepts tasks.
+     */
+    private void execute(AuctionTask task) {
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.stop(new CancellationException("Scheduler closed"));
+        }
+    }
+
+    /**
+     * One auction, advanced by one lot per run.
+     */
+    private final class AuctionTask implements Runnable {
+        private final Auction auction;
+        private final CompletableFuture<Bot> result = new CompletableFuture<>();
+        private boolean begun;
+
+        AuctionTask(Auction auction) {
+            this.auction = auction;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                stop(null);
+                return;
+            }
+            try {
+                if (!begun) {
+                    begun = true;
+                    auction.begin();
+                }
+                if (auction.isFinished()) {
+                    Bot winner = auction.finish();
+                    release();
+                    result.complete(winner);
+                } else {
+                    auction.playNextLot();
+                    execute(this);
+                }
+            } catch (RuntimeException | Error e) {
+                stop(e);
+            }
+        }
+
+        /**
+         * Ends the auction early, completing its future with the given failure unless it is already done.
+         */
+        void stop(Throwable failure) {
+            try {
+                auction.abandon();
+            } catch (RuntimeException e) {
+                if (failure != null) {
+                    failure.addSuppressed(e);
+                }
+            }
+            release();
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+}
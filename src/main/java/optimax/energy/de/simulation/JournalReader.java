@@ -0,0 +1,145 @@
+package optimax.energy.de.simulation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only, memory-mapped view of a file written by AuctionJournal.
+ * Records are read in place with absolute gets, so one reader can be shared
+ * by any number of threads and reading a value creates no objects.
+ */
+public class JournalReader implements Closeable {
+
+    private final FileChannel channel;
+    /** Participant names in slot order. */
+    private final List<String> participants;
+    /** Bytes per record. */
+    private final int recordSize;
+    /** Total QU auctioned. */
+    private final int quantity;
+    /** Number of complete records in the file. */
+    private final long count;
+    /** Records held by one mapped region. */
+    private final int recordsPerRegion;
+    /** Mapped regions covering all records. */
+    private final MappedByteBuffer[] regions;
+
+    /**
+     * Opens and maps a journal file.
+     *
+     * @param file the journal file
+     * @throws IOException if the file cannot be read or is not a journal
+     */
+    public JournalReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                Math.min(channel.size(), AuctionJournal.NAMES_OFFSET));
+        if (header.limit() < AuctionJournal.NAMES_OFFSET
+                || header.getInt(AuctionJournal.MAGIC_OFFSET) != AuctionJournal.MAGIC) {
+            channel.close();
+            throw new IOException(file + " is not an auction journal");
+        }
+        int participantCount = header.getInt(AuctionJournal.PARTICIPANTS_OFFSET);
+        int dataOffset = header.getInt(AuctionJournal.DATA_OFFSET_OFFSET);
+        this.recordSize = header.getInt(AuctionJournal.RECORD_SIZE_OFFSET);
+        this.quantity = header.getInt(AuctionJournal.QUANTITY_OFFSET);
+        long available = (channel.size() - dataOffset) / recordSize;
+        this.count = Math.min(header.getLong(AuctionJournal.COUNT_OFFSET), available);
+
+        MappedByteBuffer names = channel.map(FileChannel.MapMode.READ_ONLY, 0, dataOffset);
+        names.position(AuctionJournal.NAMES_OFFSET);
+        this.participants = new ArrayList<>();
+        for (int slot = 0; slot < participantCount; slot++) {
+            participants.add(AuctionJournal.readName(names));
+        }
+
+        this.recordsPerRegion = Integer.MAX_VALUE / recordSize;
+        int regionCount = (int) ((count + recordsPerRegion - 1) / recordsPerRegion);
+        this.regions = new MappedByteBuffer[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            long first = (long) i * recordsPerRegion;
+            long records = Math.min(recordsPerRegion, count - first);
+            regions[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    dataOffset + first * recordSize, records * recordSize);
+        }
+    }
+
+    public List<String> getParticipants() {
+        return participants;
+    }
+
+    public long getRecordCount() {
+        return count;
+    }
+
+    /**
+     * Returns the total QU auctioned, including any left unsold by a fast finish.
+     *
+     * @return the auctioned quantity
+     */
+    public int getAuctionedQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Returns the round number stored in a record.
+     *
+     * @param record the record index
+     * @return the round number
+     */
+    public int getRound(long record) {
+        return read(record, 0);
+    }
+
+    /**
+     * Returns the bid a participant placed in a record's round.
+     *
+     * @param record the record index
+     * @param slot   the participant slot
+     * @return the bid in MU
+     */
+    public int getBid(long record, int slot) {
+        return read(record, Integer.BYTES + slot * 3 * Integer.BYTES);
+    }
+
+    /**
+     * Returns the QU a participant held after a record's round.
+     *
+     * @param record the record index
+     * @param slot   the participant slot
+     * @return the quantity won so far
+     */
+    public int getQuantity(long record, int slot) {
+        return read(record, 2 * Integer.BYTES + slot * 3 * Integer.BYTES);
+    }
+
+    /**
+     * Returns the MU a participant had left after a record's round.
+     *
+     * @param record the record index
+     * @param slot   the participant slot
+     * @return the remaining budget
+     */
+    public int getBudget(long record, int slot) {
+        return read(record, 3 * Integer.BYTES + slot * 3 * Integer.BYTES);
+    }
+
+    /**
+     * Reads an int field of a record.
+     */
+    private int read(long record, int fieldOffset) {
+        MappedByteBuffer region = regions[(int) (record / recordsPerRegion)];
+        return region.getInt((int) (record % recordsPerRegion) * recordSize + fieldOffset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -1,25 +1,110 @@
 package optimax.energy.de.simulation;
 
 import optimax.energy.de.bot.Bot;
-import java.util.HashMap;
+import optimax.energy.de.event.AuctionEventBus;
+import optimax.energy.de.event.AuctionEventType;
+import optimax.energy.de.metrics.LatencyHistogram;
+import optimax.energy.de.metrics.MetricsRegistry;
+import optimax.energy.de.strategy.BiddingStrategy;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.logging.Logger;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
- * Represents a single auction lot for a fixed quantity of product (2 QU per lot).
+ * Represents the lot engine of an auction, selling a fixed quantity of product (2 QU per lot).
  * This class manages the bidding process for one lot: collecting bids from each bot,
  * notifying participants of each other's bids, determining the winner or a draw,
- * adjusting each bot's budget and quantity won accordingly, and logging the outcome.
+ * adjusting each bot's budget and quantity won accordingly, and publishing the outcome.
+ * Any number of bots can take part: the highest bidder wins the lot, and when several bots
+ * share the highest bid the lot is split evenly between them.
+ *
+ * Every participant gets a fixed slot, and bids are kept in a primitive array indexed by slot.
+ * The same Lot can play any number of consecutive rounds for the same participants
+ * without allocating anything per round.
+ *
+ * A bid deadline can be set so that a slow or hung bot cannot stall the auction. The bots of a
+ * round then bid concurrently on worker threads, and a bot that misses the deadline bids a
+ * configured default instead. Its late call is not interrupted: it keeps running in the background,
+ * and the bot bids the default in every round until that call has returned. Bots are not thread-safe,
+ * so while the call runs the lot does not touch the bot: its charges and won QU are held back and
+ * applied on the auction thread once the call has returned, together with a notification of the last
+ * round it missed.
+ *
+ * With a MetricsRegistry attached, the latency of every placeBid() call is recorded per bot and
+ * per strategy class, and the latency of every round as a whole. The histograms of the bots are
+ * resolved once when the registry is attached, so measuring does not allocate either.
  */
 public class Lot {
-    private static final Logger logger = Logger.getLogger(Lot.class.getName());
-
     /** Quantity units awarded per winning bid in this lot. */
     public static final int QUANTITY_PER_LOT = 2;
 
-    /** Maps each bot to its current bid amount for this lot. */
-    private final Map<Bot, Integer> bids;
+    /** Participating bots, indexed by slot. */
+    private final Bot[] bidders;
+
+    /** Current bid amount of each slot; reused by every round. */
+    private final int[] bids;
+
+    /** Copy of the bids handed to each bot when it is notified, so no bot can alter what the next one sees. */
+    private final int[] notifiedBids;
+
+    /** Bus receiving the round events. */
+    private final AuctionEventBus events;
+
+    /** Auction this lot engine belongs to, for event correlation. */
+    private final long auctionId;
+
+    /** Number of rounds played so far. */
+    private int round;
+
+    /** Slot holding the highest bid of the current round. */
+    private int topSlot;
+    /** Highest bid of the current round. */
+    private int topBid;
+    /** Second highest bid of the current round (the best bid competing with the top slot). */
+    private int secondBid;
+    /** Number of slots that placed the highest bid. */
+    private int topCount;
+
+    /**
+     * Rotating offset deciding which tied slots receive the indivisible rest of a split lot,
+     * so that over many rounds no seat is favoured.
+     */
+    private int tieCursor;
+
+    /** Time each bot has to place its bid in nanoseconds, or 0 if bids have no deadline. */
+    private long bidDeadlineNanos;
+    /** Bid used for a bot that missed the deadline, capped by its budget. */
+    private int timeoutBid;
+    /** Pending bid call of each slot while a deadline is set; kept while a late call runs. */
+    private List<Future<Integer>> pendingBids;
+    /** 1 for every slot whose bid call has not returned yet. */
+    private AtomicIntegerArray busy;
+    /** Whether each slot was called in the current round, or bid the default while still busy. */
+    private boolean[] called;
+    /** MU charged to each slot while its bid call was running, not yet deducted from the bot. */
+    private int[] heldCharges;
+    /** QU won by each slot while its bid call was running, not yet added to the bot. */
+    private int[] heldQuantities;
+    /** Bids of the last round settled while the bid call of each slot was running. */
+    private int[][] heldBids;
+    /** Whether a round notification is held back for each slot. */
+    private boolean[] heldRound;
+    /** Number of missed deadlines of each slot. */
+    private final int[] timeouts;
+
+    /** Registry receiving the latencies, or null if they are not measured. */
+    private MetricsRegistry metrics;
+    /** Bid latency histogram of each slot while metrics are measured. */
+    private LatencyHistogram[] bidLatency;
 
     /**
      * Initializes a new Lot for the given participants, with starting bids of zero.
@@ -27,121 +112,401 @@ public class Lot {
      * @param participants the list of bots participating in this lot
      */
     public Lot(List<Bot> participants) {
-        this.bids = new HashMap<>();
-        initBiddersForLot(participants);
+        this(participants, AuctionEventBus.getDefault(), 0);
     }
 
     /**
-     * Executes the auction process for this lot:
-     * 1. Collects bids from each bot.
-     * 2. Notifies each bot of both bids.
-     * 3. Determines if the lot is a draw or has a single winner.
-     * 4. Updates budgets and quantities accordingly.
-     * 5. Logs the result.
+     * Initializes a new Lot for the given participants that publishes to the given event bus.
+     *
+     * @param participants the list of bots participating in this lot
+     * @param events       the bus receiving round events
+     * @param auctionId    the id of the owning auction
+     */
+    public Lot(List<Bot> participants, AuctionEventBus events, long auctionId) {
+        this.bidders = participants.toArray(new Bot[0]);
+        this.bids = new int[bidders.length];
+        this.notifiedBids = new int[bidders.length];
+        this.timeouts = new int[bidders.length];
+        this.events = events;
+        this.auctionId = auctionId;
+    }
+
+    /**
+     * Gives every bot a limited time to place its bid. A bot that misses the deadline
+     * bids the given default, capped by its budget, and the timeout is counted and published
+     * as a BID_TIMEOUT event.
+     *
+     * @param timeout    the time each bot has per bid, or 0 to wait indefinitely
+     * @param unit       the unit of the timeout
+     * @param defaultBid the bid used for a bot that missed the deadline
+     * @throws IllegalArgumentException if timeout or defaultBid is negative
+     */
+    public void setBidDeadline(long timeout, TimeUnit unit, int defaultBid) {
+        if (timeout < 0 || defaultBid < 0) {
+            throw new IllegalArgumentException("Timeout and default bid must not be negative: "
+                    + timeout + ", " + defaultBid);
+        }
+        this.bidDeadlineNanos = unit.toNanos(timeout);
+        this.timeoutBid = defaultBid;
+        if (bidDeadlineNanos > 0 && pendingBids == null) {
+            pendingBids = new ArrayList<>(Collections.nCopies(bidders.length, null));
+            busy = new AtomicIntegerArray(bidders.length);
+            called = new boolean[bidders.length];
+            heldCharges = new int[bidders.length];
+            heldQuantities = new int[bidders.length];
+            heldBids = new int[bidders.length][bidders.length];
+            heldRound = new boolean[bidders.length];
+        }
+    }
+
+    /**
+     * Records the latency of every bid and round to the given registry.
+     *
+     * @param metrics the registry to record to, or null to stop measuring
+     */
+    public void setMetrics(MetricsRegistry metrics) {
+        if (metrics == null) {
+            this.metrics = null;
+            this.bidLatency = null;
+            return;
+        }
+        LatencyHistogram[] histograms = new LatencyHistogram[bidders.length];
+        for (int slot = 0; slot < bidders.length; slot++) {
+            histograms[slot] = metrics.bidLatency(bidders[slot].getName());
+        }
+        this.bidLatency = histograms;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Executes the auction process for one round of this lot:
+     * 1. Collects bids from each bot and tracks the highest bids on the way.
+     * 2. Updates budgets and quantities of all slots, then notifies each bot
+     *    of the bids of the round.
+     * 3. Publishes the result.
      */
     public void playRound() {
+        MetricsRegistry registry = metrics;
+        long start = registry != null ? System.nanoTime() : 0;
+        round++;
+        events.publish(AuctionEventType.ROUND_STARTED, auctionId, round, null, 0, 0, 0);
         placeBids();
-        if (isDraw()) {
-            processDraw();
-        } else {
-            Bot winner = determineWinner();
-            processVictory(winner);
+        settle();
+        if (registry != null) {
+            registry.roundLatency().recordSince(start);
         }
     }
 
     /**
-     * Sets initial bid of zero for each bot in this lot.
+     * Returns the number of rounds this lot engine has played.
      *
-     * @param bidders the bots to initialize for this lot
+     * @return rounds played
      */
-    private void initBiddersForLot(List<Bot> bidders) {
-        for (Bot b : bidders) {
-            bids.put(b, 0);
-        }
+    public int getRound() {
+        return round;
     }
 
     /**
-     * Invokes each bot's placeBid(), records the bid, and logs it.
+     * Returns the bid of the given slot in the last round played.
+     *
+     * @param slot the participant's slot
+     * @return the bid amount in MU
+     */
+    public int getBid(int slot) {
+        return bids[slot];
+    }
+
+    /**
+     * Returns how many times the given slot missed the bid deadline.
+     *
+     * @param slot the participant's slot
+     * @return the number of timed out bids
+     */
+    public int getTimeouts(int slot) {
+        return timeouts[slot];
+    }
+
+    /**
+     * Invokes each bot's placeBid(), records the bid in its slot, and publishes it.
+     * Keeps track of the highest and second highest bid while collecting.
      */
     private void placeBids() {
-        for (Map.Entry<Bot, Integer> entry : bids.entrySet()) {
-            Bot bidder = entry.getKey();
-            int bid = bidder.placeBid();
-            updateBids(bidder, bid);
-            logger.info(bidder.getName() + " submitted a bid with amount " + bid + " MU.");
+        topSlot = 0;
+        topBid = Integer.MIN_VALUE;
+        secondBid = 0;
+        topCount = 0;
+        boolean timed = bidDeadlineNanos > 0;
+        if (timed) {
+            collectTimedBids();
+        }
+        for (int slot = 0; slot < bidders.length; slot++) {
+            Bot bidder = bidders[slot];
+            int bid = timed ? bids[slot] : metrics != null ? measuredBid(slot) : bidder.placeBid();
+            bids[slot] = bid;
+            trackTopBid(slot, bid);
+            events.publish(AuctionEventType.BID_PLACED, auctionId, round, bidder.getName(),
+                    bid, bidder.getQuantity(), bidder.getBudget());
         }
-        notifyParticipants();
     }
 
     /**
-     * Notifies each bot of its own bid and its opponent's bid via the bids() callback.
+     * Starts the bid calls of all slots on worker threads and waits for them until the deadline
+     * of the round. Slots whose call is still running from an earlier round are not called again
+     * and bid the default right away; slots whose late call has returned catch up on the rounds
+     * held back for them first. A result that arrives after the deadline is discarded.
      */
-    private void notifyParticipants() {
-        List<Bot> part = bids.keySet().stream().toList();
-        Bot first = part.get(0);
-        Bot second = part.get(1);
-        first.bids(bids.get(first), bids.get(second));
-        second.bids(bids.get(second), bids.get(first));
+    private void collectTimedBids() {
+        for (int slot = 0; slot < bidders.length; slot++) {
+            called[slot] = busy.get(slot) == 0;
+            if (called[slot]) {
+                releaseHeld(slot);
+                busy.set(slot, 1);
+                pendingBids.set(slot, BidWorkers.POOL.submit(bidCall(slot)));
+            }
+        }
+        long deadline = System.nanoTime() + bidDeadlineNanos;
+        for (int slot = 0; slot < bidders.length; slot++) {
+            bids[slot] = called[slot] ? await(slot, pendingBids.get(slot), deadline) : timeout(slot);
+        }
     }
 
     /**
-     * Updates the recorded bid for a given bot.
+     * Checks whether the bid call of a slot is still running, so the bot must not be touched.
+     */
+    private boolean isHeld(int slot) {
+        return busy != null && busy.get(slot) == 1;
+    }
+
+    /**
+     * Applies the charges and won QU held back for a slot while its bid call was running, and notifies
+     * the bot of the last of the held back rounds. Earlier held back rounds are not notified, so memory
+     * does not grow with the number of rounds a bot stays hung.
+     */
+    private void releaseHeld(int slot) {
+        Bot bidder = bidders[slot];
+        if (heldCharges[slot] != 0 || heldQuantities[slot] != 0) {
+            bidder.decreaseBudget(heldCharges[slot]);
+            bidder.increaseQuantity(heldQuantities[slot]);
+            heldCharges[slot] = 0;
+            heldQuantities[slot] = 0;
+        }
+        if (heldRound[slot]) {
+            heldRound[slot] = false;
+            int[] roundBids = heldBids[slot];
+            int highestOther = 0;
+            for (int other = 0; other < roundBids.length; other++) {
+                if (other != slot) {
+                    highestOther = Math.max(highestOther, roundBids[other]);
+                }
+            }
+            bidder.bids(slot, roundBids, highestOther);
+        }
+    }
+
+    /**
+     * Ends the bid calls still running when the auction is over: they are cancelled with an interrupt,
+     * and the charges and QU held back for them are applied so the final standings are complete.
+     * The notification held back for these bots is dropped, as they may still be running.
+     */
+    void releaseAll() {
+        if (busy == null) {
+            return;
+        }
+        for (int slot = 0; slot < bidders.length; slot++) {
+            if (isHeld(slot)) {
+                Future<Integer> pending = pendingBids.get(slot);
+                if (pending != null) {
+                    pending.cancel(true);
+                }
+                heldRound[slot] = false;
+            }
+            releaseHeld(slot);
+        }
+    }
+
+    /**
+     * Returns the QU won by a slot but held back from its bot while its bid call runs.
+     *
+     * @param slot the participant's slot
+     * @return the held back QU
+     */
+    int getHeldQuantity(int slot) {
+        return heldQuantities == null ? 0 : heldQuantities[slot];
+    }
+
+    /**
+     * Wraps the bid call of a slot so that the slot is marked idle once the call returns.
+     */
+    private Callable<Integer> bidCall(int slot) {
+        Bot bidder = bidders[slot];
+        return () -> {
+            try {
+                return metrics != null ? measuredBid(slot) : bidder.placeBid();
+            } finally {
+                busy.set(slot, 0);
+            }
+        };
+    }
+
+    /**
+     * Waits for the bid of a slot until the deadline.
      *
-     * @param bidder the bot that placed the bid
-     * @param bid    the bid amount
+     * @return the bid, or the default bid if the deadline passed
+     */
+    private int await(int slot, Future<Integer> pending, long deadline) {
+        try {
+            return pending.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return timeout(slot);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return timeout(slot);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Calls placeBid() of a slot and records its latency for the bot and for the strategy that decided it.
+     */
+    private int measuredBid(int slot) {
+        Bot bidder = bidders[slot];
+        long start = System.nanoTime();
+        int bid = bidder.placeBid();
+        long elapsed = System.nanoTime() - start;
+        MetricsRegistry registry = metrics;
+        LatencyHistogram[] histograms = bidLatency;
+        if (registry != null && histograms != null) {
+            histograms[slot].record(elapsed);
+            BiddingStrategy strategy = bidder.getStrategy();
+            if (strategy != null) {
+                registry.strategyLatency(strategy.getClass()).record(elapsed);
+            }
+        }
+        return bid;
+    }
+
+    /**
+     * Counts a missed deadline of a slot, publishes it and returns the default bid.
      */
-    private void updateBids(Bot bidder, int bid) {
-        bids.put(bidder, bid);
+    private int timeout(int slot) {
+        Bot bidder = bidders[slot];
+        int bid = Math.min(timeoutBid, Math.max(0, bidder.getBudget() - heldCharges[slot]));
+        timeouts[slot]++;
+        events.publish(AuctionEventType.BID_TIMEOUT, auctionId, round, bidder.getName(),
+                bid, bidder.getQuantity(), bidder.getBudget());
+        return bid;
     }
 
     /**
-     * Determines which bot has the highest bid. In case of equal bids, both
-     * are considered a draw elsewhere.
+     * Updates the highest and second highest bid of the round with a new bid.
      *
-     * @return the bot with the highest bid
+     * @param slot the slot that placed the bid
+     * @param bid  the bid amount
      */
-    private Bot determineWinner() {
-        return bids.entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .get()
-                .getKey();
+    private void trackTopBid(int slot, int bid) {
+        if (bid > topBid) {
+            if (topCount > 0) {
+                secondBid = topBid;
+            }
+            topBid = bid;
+            topSlot = slot;
+            topCount = 1;
+        } else {
+            if (bid == topBid) {
+                topCount++;
+            }
+            secondBid = Math.max(secondBid, bid);
+        }
     }
 
     /**
-     * Checks whether all bids in this lot are identical, indicating a draw.
+     * Checks whether several bots share the highest bid, indicating a draw.
      *
-     * @return true if every bot bid the same amount; false otherwise
+     * @return true if the highest bid was placed more than once; false otherwise
      */
     private boolean isDraw() {
-        return bids.values()
-                .stream()
-                .distinct()
-                .count() == 1;
+        return topCount > 1;
     }
 
     /**
-     * Processes a victory: awards the full lot quantity to the winner,
-     * deducts each bot's bid from its budget, and logs the winner.
+     * Settles the round in two passes over the slots. The first deducts each bot's bid from its budget
+     * and awards the full lot to the winner or splits it between the tied top bidders; the second,
+     * once every bot is settled, notifies each bot of the bids of the round through a fresh copy.
+     * On a split, every tied bot receives QUANTITY_PER_LOT / topCount QU and the rest
+     * goes one QU each to the tied bots starting at the rotating tie cursor.
+     * A bot whose late bid call is still running is not touched; its share of the round is held back.
+     */
+    private void settle() {
+        boolean draw = isDraw();
+        int share = QUANTITY_PER_LOT / topCount;
+        int rest = QUANTITY_PER_LOT % topCount;
+        int tieRank = 0;
+        for (int slot = 0; slot < bidders.length; slot++) {
+            Bot bidder = bidders[slot];
+            int bid = bids[slot];
+            int won = 0;
+            if (bid == topBid) {
+                won = share + (Math.floorMod(tieRank - tieCursor, topCount) < rest ? 1 : 0);
+                tieRank++;
+            }
+            if (isHeld(slot)) {
+                heldCharges[slot] += bid;
+                heldQuantities[slot] += won;
+                System.arraycopy(bids, 0, heldBids[slot], 0, bids.length);
+                heldRound[slot] = true;
+                continue;
+            }
+            if (busy != null) {
+                releaseHeld(slot);
+            }
+            bidder.decreaseBudget(bid);
+            bidder.increaseQuantity(won);
+        }
+        for (int slot = 0; slot < bidders.length; slot++) {
+            if (busy == null || !heldRound[slot]) {
+                System.arraycopy(bids, 0, notifiedBids, 0, bids.length);
+                bidders[slot].bids(slot, notifiedBids, competingBid(slot));
+            }
+        }
+        if (draw) {
+            tieCursor += rest;
+            events.publish(AuctionEventType.DRAW, auctionId, round, null, topBid, topCount, 0);
+        } else {
+            Bot winner = bidders[topSlot];
+            events.publish(AuctionEventType.LOT_WON, auctionId, round, winner.getName(),
+                    topBid, winner.getQuantity(), winner.getBudget());
+        }
+    }
+
+    /**
+     * Returns the highest bid placed by any other slot.
      *
-     * @param winner the bot that won this lot
+     * @param slot the slot to compare against
+     * @return the best competing bid
      */
-    private void processVictory(Bot winner) {
-        winner.increaseQuantity(QUANTITY_PER_LOT);
-        // Deduct each bot's bid from its budget
-        bids.keySet().forEach(bidder -> bidder.decreaseBudget(bids.get(bidder)));
-        logger.info("Winner " + winner.getName() + " has quantity: " + winner.getQuantity());
+    private int competingBid(int slot) {
+        return slot == topSlot ? secondBid : topBid;
     }
 
     /**
-     * Processes a draw: awards each bot half the lot (1 QU),
-     * deducts each bot's bid from its budget, and logs the draw.
+     * Worker threads running the bids of lots with a deadline, created on first use.
+     * Threads are daemons so that a hung bot does not keep the JVM alive.
      */
-    private void processDraw() {
-        bids.keySet().forEach(bidder -> {
-            bidder.increaseQuantity(1);
-            bidder.decreaseBudget(bids.get(bidder));
+    private static final class BidWorkers {
+        private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+
+        static final ExecutorService POOL = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "bid-worker-" + NEXT_ID.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
         });
-        logger.info("DRAW! Everybody received 1 QU");
     }
 }
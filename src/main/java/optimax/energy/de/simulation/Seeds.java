@@ -0,0 +1,35 @@
+package optimax.energy.de.simulation;
+
+/**
+ * Derives independent, reproducible seeds from a master seed.
+ * A derived seed depends only on the master seed and the stream index, never on
+ * the order or thread in which it is requested, so parallel runs stay bit-identical.
+ */
+public final class Seeds {
+
+    /** Odd increment of the SplitMix64 generator (2^64 / golden ratio). */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private Seeds() {
+    }
+
+    /**
+     * Derives the seed of a numbered stream from a master seed.
+     *
+     * @param seed   the master seed
+     * @param stream the index of the derived stream
+     * @return the seed of the stream
+     */
+    public static long derive(long seed, long stream) {
+        return mix(seed + GOLDEN_GAMMA * (stream + 1));
+    }
+
+    /**
+     * SplitMix64 finalizer: scrambles all bits of the input.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,5 +1,6 @@
 package optimax.energy.de.strategy;
 
+import optimax.energy.de.bot.BidHistory;
 import optimax.energy.de.bot.BidsStatistic;
 
 import java.util.List;
@@ -11,9 +12,23 @@ public interface BiddingStrategy {
      * Decide the next bid amount according to the strategy.
      *
      * @param remainingBudget   the amount of MU the bot still has available
+     * @param history           chronological record of past rounds' bids
+     * @param amountOfQU        the fixed number of QU offered per lot
+     * @return                  the computed bid, which must be between 0 and remainingBudget
+     */
+    int decideStrategy(int remainingBudget, BidHistory history, int amountOfQU);
+
+    /**
+     * Decide the next bid from a list of round statistics.
+     * Adapter for code that still keeps its history as BidsStatistic objects;
+     * the list is copied into a BidHistory on every call.
+     *
+     * @param remainingBudget   the amount of MU the bot still has available
      * @param bidsStatistics    chronological list of past round statistics
      * @param amountOfQU        the fixed number of QU offered per lot
      * @return                  the computed bid, which must be between 0 and remainingBudget
      */
-    int decideStrategy( int remainingBudget, List<BidsStatistic> bidsStatistics, int amountOfQU);
+    default int decideStrategy(int remainingBudget, List<BidsStatistic> bidsStatistics, int amountOfQU) {
+        return decideStrategy(remainingBudget, BidHistory.of(bidsStatistics), amountOfQU);
+    }
 }
@@ -1,8 +1,6 @@
 package optimax.energy.de.strategy;
 
-import optimax.energy.de.bot.BidsStatistic;
-
-import java.util.List;
+import optimax.energy.de.bot.BidHistory;
 
 /**
  * Implementation of Grok's adaptive bidding strategy.
@@ -15,6 +13,9 @@ import java.util.List;
  * - Learns from opponent's bids and tries to minimally outbid them
  * - Manages budget by capping bids to sustainable levels
  * - Special handling for the last round to prioritize winning when necessary
+ *
+ * Rounds played and quantity won are read from the aggregates of the history,
+ * so a bid costs O(1) regardless of how many rounds have been played.
  */
 public class GrokStrategy implements BiddingStrategy {
 
@@ -25,12 +26,12 @@ public class GrokStrategy implements BiddingStrategy {
      * Decide the next bid using Grok's adaptive approach.
      *
      * @param remainingBudget   how many MU this bot has left
-     * @param history           chronological list of past round statistics
+     * @param history           chronological record of past rounds' bids
      * @param amountOfQU        the fixed amount of QU per lot (total QU in auction)
      * @return                  the calculated bid
      */
     @Override
-    public int decideStrategy(int remainingBudget, List<BidsStatistic> history, int amountOfQU) {
+    public int decideStrategy(int remainingBudget, BidHistory history, int amountOfQU) {
         // Update internal state based on history
         updateInternalState(history);
 
@@ -61,27 +62,14 @@ public class GrokStrategy implements BiddingStrategy {
     }
 
     /**
-     * Updates internal tracking of rounds played and quantity won.
+     * Updates internal tracking of rounds played and quantity won
+     * from the running win and tie counts of the history.
      *
      * @param history the complete bid history
      */
-    private void updateInternalState(List<BidsStatistic> history) {
-        // Reset and recalculate from full history
+    private void updateInternalState(BidHistory history) {
         totalRoundsPlayed = history.size();
-        ownQuantityWon = 0;
-
-        // Calculate total quantity won from history
-        for (BidsStatistic stat : history) {
-            int ownBid = stat.getOwnBid();
-            int opponentBid = stat.getEnemiesBid();
-
-            if (ownBid > opponentBid) {
-                ownQuantityWon += 2; // Won the round
-            } else if (ownBid == opponentBid) {
-                ownQuantityWon += 1; // Tied the round
-            }
-            // If ownBid < opponentBid, won 0 (already initialized)
-        }
+        ownQuantityWon = history.getWins() * 2 + history.getTies();
     }
 
     /**
@@ -90,11 +78,11 @@ public class GrokStrategy implements BiddingStrategy {
      * @param history the bid history
      * @return the last opponent bid, or -1 if no history
      */
-    private int getLastOpponentBid(List<BidsStatistic> history) {
+    private int getLastOpponentBid(BidHistory history) {
         if (history.isEmpty()) {
             return -1;
         }
-        return history.get(history.size() - 1).getEnemiesBid();
+        return history.getLastEnemyBid();
     }
 
     /**
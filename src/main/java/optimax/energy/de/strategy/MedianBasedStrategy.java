@@ -1,66 +1,113 @@
 package optimax.energy.de.strategy;
 
-import optimax.energy.de.bot.BidsStatistic;
-
-import java.util.List;
+import optimax.energy.de.bot.BidHistory;
 
 /**
  * Implements a bidding strategy that always bids the median of the opponent's past bids,
  * capped by the remaining budget.
+ *
+ * The opponent's bids are kept in a running median that only consumes the rounds added
+ * to the history since the previous call, so a decision costs O(log n) per new round
+ * instead of sorting the whole history again.
+ *
+ * If the history only retains a window of recent rounds, the median covers that window:
+ * the strategy then keeps a sliding median of the same size, so its memory stays bounded too.
  */
 public class MedianBasedStrategy implements BiddingStrategy {
 
+    /** Offset used unless another one is given. */
+    public static final int DEFAULT_OFFSET = 10;
+
+    /** MU added to the median. */
+    private final int offset;
+
+    /** Opponent bids seen so far, for unbounded histories. */
+    private final RunningMedian enemyBids = new RunningMedian();
+    /** Opponent bids of the retained rounds, for windowed histories. */
+    private SlidingMedian windowBids;
+    /** History the median was built from. */
+    private BidHistory trackedHistory;
+    /** Number of rounds of the tracked history consumed so far. */
+    private int consumed;
+
+    /**
+     * Constructs a MedianBasedStrategy bidding 10 MU over the median.
+     */
+    public MedianBasedStrategy() {
+        this(DEFAULT_OFFSET);
+    }
+
+    /**
+     * Constructs a MedianBasedStrategy with the given offset over the median.
+     *
+     * @param offset MU added to the median of the opponent's bids
+     */
+    public MedianBasedStrategy(int offset) {
+        this.offset = offset;
+    }
+
     /**
      * Decide the next bid based on the opponent’s bid history.
      *
      * @param remainingBudget   how many MU this bot has left
-     * @param bidsStatistics    chronological list of past round bids
+     * @param history           chronological record of past rounds' bids
      * @param amountOfQU        the fixed amount of QU per lot
      * @return                  the bid (median of opponent’s bids, not exceeding remainingBudget)
      */
     @Override
     public int decideStrategy(int remainingBudget,
-                              List<BidsStatistic> bidsStatistics,
+                              BidHistory history,
                               int amountOfQU) {
         // If there is no bid history, return 0
-        if (bidsStatistics.isEmpty()) {
+        if (history.isEmpty()) {
             return 0;
         }
 
-        List<Integer> enemyBids = getEnemyBids(bidsStatistics);
-        int median = calculateMedian(enemyBids);
+        updateEnemyBids(history);
+        int median = calculateMedian();
 
         return Math.min(median, remainingBudget);
     }
 
     /**
-     * Gathers and sorts the list of the opponent's bids.
+     * Adds the opponent's bids of all rounds not seen yet to the median.
+     * Starts over if a different or shorter history is passed in.
      *
-     * @param history  chronological list of past round statistics
-     * @return         a sorted list of the opponent’s bids
+     * @param history  chronological record of past rounds' bids
      */
-    private List<Integer> getEnemyBids(List<BidsStatistic> history) {
-        return history.stream()
-                .map(BidsStatistic::getEnemiesBid)
-                .sorted()
-                .toList();
+    private void updateEnemyBids(BidHistory history) {
+        if (history != trackedHistory || history.size() < consumed) {
+            enemyBids.clear();
+            windowBids = history.getWindow() > 0 ? new SlidingMedian(history.getWindow()) : null;
+            trackedHistory = history;
+            consumed = 0;
+        }
+        if (windowBids == null) {
+            for (int i = consumed; i < history.size(); i++) {
+                enemyBids.add(history.getEnemyBid(i));
+            }
+        } else {
+            int first = history.getFirstRetainedRound();
+            if (consumed < first) {
+                // Rounds were evicted before this strategy saw them; rebuild from the window
+                windowBids.clear();
+                consumed = first;
+            }
+            for (int i = consumed; i < history.size(); i++) {
+                windowBids.add(history.getEnemyBid(i));
+            }
+        }
+        consumed = history.size();
     }
 
     /**
-     * Calculates the median from an already sorted list of bids.
-     * For an even number of elements, returns the average of the two middle values.
+     * Calculates the median of the opponent's bids.
+     * For an even number of elements, uses the average of the two middle values.
      *
-     * @param sortedBids  a list of bids sorted in ascending order
      * @return            the median bid value
      */
-    private int calculateMedian(List<Integer> sortedBids) {
-        int size = sortedBids.size();
-        int mid  = size / 2;
-
-        if (size % 2 == 0) {
-            return ((sortedBids.get(mid - 1) + sortedBids.get(mid)) / 2)+10;
-        } else {
-            return sortedBids.get(mid)+10;
-        }
+    private int calculateMedian() {
+        int median = windowBids == null ? enemyBids.median() : windowBids.median();
+        return median + offset;
     }
 }
@@ -0,0 +1,166 @@
+package optimax.energy.de.strategy;
+
+import optimax.energy.de.bot.BidHistory;
+import optimax.energy.de.simulation.Lot;
+
+import java.util.Arrays;
+
+/**
+ * A bidding strategy that learns the distribution of the opponent's bids and bids
+ * where the expected QU is worth the most MU.
+ *
+ * Every opponent bid is recorded, as a fraction of the cash the opponent had before it,
+ * in a histogram for the context it was placed in: the phase of the auction (early, middle,
+ * late) and whether the opponent was poorer, about as rich or richer than this bot. Recording
+ * a round is a single counter increment, and every round of the history is recorded once.
+ *
+ * To bid, the strategy takes the histogram of the current context (or of all contexts while
+ * that one has too few samples) and, for every bin, the smallest bid beating all bids in and
+ * below it. It picks the bid maximising the expected QU won minus the QU the same MU would
+ * buy at the average price still affordable (remaining budget over remaining QU), so it only
+ * pays for lots it is likely to win cheaply. Without any data it bids the average price.
+ */
+public class OpponentModelStrategy implements BiddingStrategy {
+
+    /** Histogram bins over the fraction of its cash the opponent bids. */
+    private static final int BINS = 128;
+    private static final int PHASES = 3;
+    private static final int BUDGET_RELATIONS = 3;
+    /** Samples a context needs before it is used on its own. */
+    private static final int MIN_SAMPLES = 4;
+
+    /** Bid counts per context and bin. */
+    private final int[][] counts = new int[PHASES * BUDGET_RELATIONS][BINS];
+    /** Samples per context. */
+    private final int[] totals = new int[PHASES * BUDGET_RELATIONS];
+    /** Bid counts over all contexts. */
+    private final int[] pooled = new int[BINS];
+    private int pooledTotal;
+
+    /** History the histograms were built from. */
+    private BidHistory trackedHistory;
+    /** Number of rounds of the tracked history recorded so far. */
+    private int consumed;
+    /** MU this bot had spent before the next round to record. */
+    private long ownSpent;
+    /** MU the opponent had spent before the next round to record. */
+    private long enemySpent;
+
+    /**
+     * Decide the next bid from the learnt distribution of the opponent's bids.
+     *
+     * @param remainingBudget   how many MU this bot has left
+     * @param history           chronological record of past rounds' bids
+     * @param amountOfQU        the fixed amount of QU per lot (total QU in auction)
+     * @return                  the bid with the best expected QU for its MU, not exceeding remainingBudget
+     */
+    @Override
+    public int decideStrategy(int remainingBudget, BidHistory history, int amountOfQU) {
+        int totalLots = Math.max(1, amountOfQU / Lot.QUANTITY_PER_LOT);
+        int lotsLeft = totalLots - history.size();
+        if (remainingBudget <= 0 || lotsLeft <= 0) {
+            return 0;
+        }
+
+        // Both bots start with the same cash
+        long startCash = remainingBudget + history.getOwnSum();
+        record(history, startCash, totalLots);
+
+        int opponentCash = (int) Math.max(0, startCash - history.getEnemySum());
+        int context = context(history.size(), totalLots, remainingBudget, opponentCash);
+        int[] bins = counts[context];
+        int samples = totals[context];
+        if (samples < MIN_SAMPLES) {
+            bins = pooled;
+            samples = pooledTotal;
+        }
+        if (samples == 0) {
+            return remainingBudget / lotsLeft;
+        }
+
+        // QU one MU buys on average for the rest of the auction
+        double affordableRate = (double) lotsLeft * Lot.QUANTITY_PER_LOT / remainingBudget;
+        int bestBid = 0;
+        double bestGain = 0;
+        int beaten = 0;
+        for (int bin = 0; bin < BINS; bin++) {
+            beaten += bins[bin];
+            int bid = (int) ((long) (bin + 1) * opponentCash / BINS) + 1;
+            if (bid > remainingBudget) {
+                break;
+            }
+            double gain = (double) Lot.QUANTITY_PER_LOT * beaten / samples - bid * affordableRate;
+            if (gain > bestGain) {
+                bestGain = gain;
+                bestBid = bid;
+            }
+        }
+        return bestBid;
+    }
+
+    /**
+     * Records the opponent's bids of all rounds not seen yet.
+     * Starts over if a different or shorter history is passed in; rounds that left
+     * a windowed history before being seen are skipped.
+     */
+    private void record(BidHistory history, long startCash, int totalLots) {
+        if (history != trackedHistory || history.size() < consumed) {
+            reset();
+            trackedHistory = history;
+        }
+        int first = history.getFirstRetainedRound();
+        if (consumed < first) {
+            consumed = first;
+            ownSpent = history.getOwnSum() - history.getWindowOwnSum();
+            enemySpent = history.getEnemySum() - history.getWindowEnemySum();
+        }
+        for (int round = consumed; round < history.size(); round++) {
+            int ownBid = history.getOwnBid(round);
+            int enemyBid = history.getEnemyBid(round);
+            long ownCash = startCash - ownSpent;
+            long opponentCash = startCash - enemySpent;
+            if (opponentCash > 0) {
+                int context = context(round, totalLots, ownCash, opponentCash);
+                int bin = (int) Math.min(BINS - 1, (long) enemyBid * BINS / opponentCash);
+                counts[context][bin]++;
+                totals[context]++;
+                pooled[bin]++;
+                pooledTotal++;
+            }
+            ownSpent += ownBid;
+            enemySpent += enemyBid;
+        }
+        consumed = history.size();
+    }
+
+    /**
+     * Returns the context of a round: its phase combined with the budget relation of the bots.
+     */
+    private static int context(int round, int totalLots, long ownCash, long opponentCash) {
+        int phase = Math.min(PHASES - 1, round * PHASES / totalLots);
+        int relation;
+        if (opponentCash * 5 < ownCash * 4) {
+            relation = 0; // opponent is poorer
+        } else if (opponentCash * 4 > ownCash * 5) {
+            relation = 2; // opponent is richer
+        } else {
+            relation = 1;
+        }
+        return phase * BUDGET_RELATIONS + relation;
+    }
+
+    /**
+     * Forgets everything learnt.
+     */
+    private void reset() {
+        for (int[] bins : counts) {
+            Arrays.fill(bins, 0);
+        }
+        Arrays.fill(totals, 0);
+        Arrays.fill(pooled, 0);
+        pooledTotal = 0;
+        consumed = 0;
+        ownSpent = 0;
+        enemySpent = 0;
+    }
+}
@@ -0,0 +1,47 @@
+package optimax.energy.de.strategy;
+
+import optimax.energy.de.bot.BidHistory;
+import optimax.energy.de.policy.PolicyTable;
+import optimax.energy.de.simulation.Lot;
+
+/**
+ * A bidding strategy that plays a precomputed policy table.
+ *
+ * The state is rebuilt from the aggregates of the history in O(1): lots left from the
+ * number of rounds played, the opponent's cash from the starting cash minus the sum of its
+ * bids, and the QU difference from the rounds won and lost. The bid is then a table lookup.
+ * The table must have been solved for the quantity and cash of the auction being played.
+ */
+public class PolicyTableStrategy implements BiddingStrategy {
+
+    private final PolicyTable table;
+
+    /**
+     * Constructs a strategy playing the given table.
+     *
+     * @param table the solved policy
+     */
+    public PolicyTableStrategy(PolicyTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Decide the next bid by looking up the current state in the policy table.
+     *
+     * @param remainingBudget   how many MU this bot has left
+     * @param history           chronological record of past rounds' bids
+     * @param amountOfQU        the fixed amount of QU per lot
+     * @return                  the bid stored for the current state, not exceeding remainingBudget
+     */
+    @Override
+    public int decideStrategy(int remainingBudget,
+                              BidHistory history,
+                              int amountOfQU) {
+        int lotsLeft = table.getLots() - history.size();
+        long opponentCash = table.getCash() - history.getEnemySum();
+        int quDiff = (history.getWins() - history.getLosses()) * Lot.QUANTITY_PER_LOT;
+
+        int bid = table.getBid(lotsLeft, remainingBudget, (int) Math.max(0, opponentCash), quDiff);
+        return Math.min(bid, remainingBudget);
+    }
+}
@@ -1,8 +1,6 @@
 package optimax.energy.de.strategy;
 
-import optimax.energy.de.bot.BidsStatistic;
-
-import java.util.List;
+import optimax.energy.de.bot.BidHistory;
 
 /**
  * A bidding strategy that always increases the opponent’s last bid by a fixed offset.
@@ -10,22 +8,43 @@ import java.util.List;
  */
 public class PressingStrategy implements BiddingStrategy {
 
+    /** Offset used unless another one is given. */
+    public static final int DEFAULT_OFFSET = 5;
+
+    /** MU added to the opponent's last bid. */
+    private final int offset;
+
+    /**
+     * Constructs a PressingStrategy with the default offset of 5 MU.
+     */
+    public PressingStrategy() {
+        this(DEFAULT_OFFSET);
+    }
+
+    /**
+     * Constructs a PressingStrategy with the given offset.
+     *
+     * @param offset MU added to the opponent's last bid
+     */
+    public PressingStrategy(int offset) {
+        this.offset = offset;
+    }
+
     /**
-     * Decide the next bid by taking the opponent’s most recent bid and adding 5 MU.
+     * Decide the next bid by taking the opponent’s most recent bid and adding the offset (5 MU by default).
      *
      * @param remainingBudget   how many MU this bot has left
-     * @param history           chronological list of past round statistics
+     * @param history           chronological record of past rounds' bids
      * @param amountOfQU        the fixed amount of QU per lot
-     * @return                  the calculated bid (opponent’s last bid + 5), or 0 if no history
+     * @return                  the calculated bid (opponent’s last bid + offset), or 0 if no history
      */
     @Override
     public int decideStrategy(int remainingBudget,
-                              List<BidsStatistic> history,
+                              BidHistory history,
                               int amountOfQU) {
         if (!history.isEmpty()) {
-            int lastIndex     = history.size() - 1;
-            int lastEnemies   = history.get(lastIndex).getEnemiesBid();
-            return lastEnemies + 5;
+            int lastEnemies   = history.getLastEnemyBid();
+            return lastEnemies + offset;
         }
         return 0;
     }
@@ -1,37 +1,76 @@
 package optimax.energy.de.strategy;
 
-import optimax.energy.de.bot.BidsStatistic;
+import optimax.energy.de.bot.BidHistory;
 
-import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * A bidding strategy that places a random bid based on the remaining budget
  * and the fixed lot size. The bid is calculated as a random integer within
- * [0, remainingBudget / amountOfQU] (inclusive), multiplied by 2, plus offset.
+ * [0, remainingBudget / amountOfQU] (inclusive), multiplied by the multiplier (3 by default), plus offset.
+ * The random stream belongs to the strategy instance and can be seeded for reproducible auctions.
  */
-public class RandomStrategy implements BiddingStrategy {
+public class RandomStrategy implements BiddingStrategy, Seedable {
+
+    /** Multiplier used unless another one is given. */
+    public static final int DEFAULT_MULTIPLIER = 3;
+
+    /** Scale of the random part of the bid. */
+    private final int multiplier;
+
+    /** Source of the random bids. */
+    private SplittableRandom random;
+
+    /**
+     * Constructs a RandomStrategy with an unpredictable random stream.
+     */
+    public RandomStrategy() {
+        this.multiplier = DEFAULT_MULTIPLIER;
+        this.random = new SplittableRandom();
+    }
+
+    /**
+     * Constructs a RandomStrategy with a reproducible random stream.
+     *
+     * @param seed the seed of the random stream
+     */
+    public RandomStrategy(long seed) {
+        this(DEFAULT_MULTIPLIER, seed);
+    }
+
+    /**
+     * Constructs a RandomStrategy with the given multiplier and a reproducible random stream.
+     *
+     * @param multiplier scale of the random part of the bid
+     * @param seed       the seed of the random stream
+     */
+    public RandomStrategy(int multiplier, long seed) {
+        this.multiplier = multiplier;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void seed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
 
     /**
      * Decide the next bid by generating a pseudo-random value constrained
      * by the remaining budget and lot size.
      *
      * @param remainingBudget   how many MU this bot has left
-     * @param history           chronological list of past round statistics
+     * @param history           chronological record of past rounds' bids
      * @param amountOfQU        the fixed amount of QU per lot
      * @return                  a random bid that does not exceed remainingBudget
      */
     @Override
     public int decideStrategy(int remainingBudget,
-                              List<BidsStatistic> history,
+                              BidHistory history,
                               int amountOfQU) {
-        Random random = new Random();
-
-
         int range = remainingBudget / amountOfQU + 1;
 
 
-        int bid = (random.nextInt(range) * 3) + range;
+        int bid = (random.nextInt(range) * multiplier) + range;
 
 
         return Math.min(bid, remainingBudget);
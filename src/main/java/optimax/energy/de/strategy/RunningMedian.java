@@ -0,0 +1,120 @@
+package optimax.energy.de.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Streaming median of int values, kept in two primitive binary heaps:
+ * a max-heap with the lower half and a min-heap with the upper half of all values.
+ * Adding a value costs O(log n), reading the median costs O(1), and no value is boxed.
+ */
+class RunningMedian {
+
+    /** Max-heap holding the lower half; it holds one value more than upper for odd counts. */
+    private int[] lower = new int[16];
+    private int lowerSize;
+    /** Min-heap holding the upper half. */
+    private int[] upper = new int[16];
+    private int upperSize;
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value to add
+     */
+    void add(int value) {
+        if (lowerSize == 0 || value <= lower[0]) {
+            lower = push(lower, lowerSize++, value, true);
+        } else {
+            upper = push(upper, upperSize++, value, false);
+        }
+        if (lowerSize > upperSize + 1) {
+            upper = push(upper, upperSize++, pop(lower, lowerSize--, true), false);
+        } else if (upperSize > lowerSize) {
+            lower = push(lower, lowerSize++, pop(upper, upperSize--, false), true);
+        }
+    }
+
+    /**
+     * Returns the number of values added.
+     *
+     * @return the count
+     */
+    int size() {
+        return lowerSize + upperSize;
+    }
+
+    /**
+     * Returns the median: the middle value for an odd count, or the integer average
+     * of the two middle values for an even count.
+     *
+     * @return the median of all values added
+     */
+    int median() {
+        if (lowerSize > upperSize) {
+            return lower[0];
+        }
+        return (lower[0] + upper[0]) / 2;
+    }
+
+    /**
+     * Removes all values.
+     */
+    void clear() {
+        lowerSize = 0;
+        upperSize = 0;
+    }
+
+    /**
+     * Appends a value at index size and sifts it up.
+     *
+     * @return the heap array, grown if it was full
+     */
+    private static int[] push(int[] heap, int size, int value, boolean max) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int child = size;
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (!before(value, heap[parent], max)) {
+                break;
+            }
+            heap[child] = heap[parent];
+            child = parent;
+        }
+        heap[child] = value;
+        return heap;
+    }
+
+    /**
+     * Removes and returns the root of a heap holding size values.
+     */
+    private static int pop(int[] heap, int size, boolean max) {
+        int root = heap[0];
+        int last = heap[--size];
+        int parent = 0;
+        while (true) {
+            int child = 2 * parent + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && before(heap[child + 1], heap[child], max)) {
+                child++;
+            }
+            if (!before(heap[child], last, max)) {
+                break;
+            }
+            heap[parent] = heap[child];
+            parent = child;
+        }
+        heap[parent] = last;
+        return root;
+    }
+
+    /**
+     * Checks whether a belongs closer to the root than b.
+     */
+    private static boolean before(int a, int b, boolean max) {
+        return max ? a > b : a < b;
+    }
+}
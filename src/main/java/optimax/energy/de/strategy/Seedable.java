@@ -0,0 +1,14 @@
+package optimax.energy.de.strategy;
+
+/**
+ * Implemented by strategies that make random decisions, so that an auction
+ * can give them a reproducible random stream.
+ */
+public interface Seedable {
+    /**
+     * Restarts the strategy's random stream from the given seed.
+     *
+     * @param seed the seed of the new stream
+     */
+    void seed(long seed);
+}
@@ -0,0 +1,93 @@
+package optimax.energy.de.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Median of the last values of a stream of ints, over a fixed window.
+ *
+ * The window keeps its values twice: in arrival order in a ring, to know which value
+ * leaves when a new one comes in, and in sorted order, to read the median directly.
+ * Finding a position in the sorted copy is a binary search; making room is a single
+ * System.arraycopy of at most the window size, which stays cheap for the windows bots use.
+ * Memory is fixed at construction and adding a value creates no objects.
+ */
+class SlidingMedian {
+
+    /** Values in arrival order; head is the oldest once the window is full. */
+    private final int[] ring;
+    /** The same values, sorted ascending, in the first size entries. */
+    private final int[] sorted;
+    private int head;
+    private int size;
+
+    /**
+     * Constructs an empty window.
+     *
+     * @param window the number of most recent values the median covers
+     */
+    SlidingMedian(int window) {
+        this.ring = new int[window];
+        this.sorted = new int[window];
+    }
+
+    /**
+     * Adds a value, evicting the oldest one if the window is full.
+     *
+     * @param value the value to add
+     */
+    void add(int value) {
+        if (size == ring.length) {
+            remove(ring[head]);
+        }
+        ring[head] = value;
+        head = (head + 1) % ring.length;
+
+        int at = Arrays.binarySearch(sorted, 0, size, value);
+        if (at < 0) {
+            at = -at - 1;
+        }
+        System.arraycopy(sorted, at, sorted, at + 1, size - at);
+        sorted[at] = value;
+        size++;
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return the count
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the median: the middle value for an odd count, or the integer average
+     * of the two middle values for an even count.
+     *
+     * @return the median of the values in the window
+     */
+    int median() {
+        int middle = size / 2;
+        if (size % 2 == 1) {
+            return sorted[middle];
+        }
+        return (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    /**
+     * Removes all values.
+     */
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Removes one occurrence of a value from the sorted copy.
+     */
+    private void remove(int value) {
+        int at = Arrays.binarySearch(sorted, 0, size, value);
+        System.arraycopy(sorted, at + 1, sorted, at, size - at - 1);
+        size--;
+    }
+}
@@ -1,8 +1,6 @@
 package optimax.energy.de.strategy;
 
-import optimax.energy.de.bot.BidsStatistic;
-
-import java.util.List;
+import optimax.energy.de.bot.BidHistory;
 
 /**
  * A bidding strategy that places a steady bid proportional to the remaining budget
@@ -15,13 +13,13 @@ public class SteadyStrategy implements BiddingStrategy {
      * and scaling by a factor of 2.
      *
      * @param remainingBudget   how many MU this bot has left
-     * @param history           chronological list of past round statistics
+     * @param history           chronological record of past rounds' bids
      * @param amountOfQU        the fixed amount of QU per lot
      * @return                  the calculated bid, or 0 if remainingBudget is less than amountOfQU
      */
     @Override
     public int decideStrategy(int remainingBudget,
-                              List<BidsStatistic> history,
+                              BidHistory history,
                               int amountOfQU) {
 
         int units = remainingBudget / (amountOfQU+ 1);
@@ -0,0 +1,93 @@
+package optimax.energy.de.strategy;
+
+/**
+ * UCB1 multi-armed bandit choosing between sub-strategies.
+ *
+ * Each arm keeps a pull count and a reward sum, so choosing an arm costs O(arms) and
+ * recording a reward costs O(1); no history is ever rescanned. Arms that were never pulled
+ * are tried first, then the arm with the highest mean reward plus exploration bonus
+ * sqrt(2 ln(total pulls) / pulls) is chosen.
+ *
+ * A bandit is not tied to one auction: handing the same instance to every bot that meets
+ * a given opponent carries what was learnt from one auction to the next. Its methods are
+ * synchronized, so bots playing concurrent auctions may share it.
+ */
+public class StrategyBandit {
+
+    /** Times each arm was pulled. */
+    private final long[] pulls;
+    /** Sum of the rewards of each arm. */
+    private final double[] rewards;
+    private long totalPulls;
+
+    /**
+     * Constructs a bandit with no experience.
+     *
+     * @param arms the number of sub-strategies to choose from
+     */
+    public StrategyBandit(int arms) {
+        if (arms < 1) {
+            throw new IllegalArgumentException("A bandit needs at least one arm: " + arms);
+        }
+        this.pulls = new long[arms];
+        this.rewards = new double[arms];
+    }
+
+    public int getArms() {
+        return pulls.length;
+    }
+
+    /**
+     * Chooses the arm to play next.
+     *
+     * @return the arm index
+     */
+    public synchronized int select() {
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        double logTotal = Math.log(Math.max(1, totalPulls));
+        for (int arm = 0; arm < pulls.length; arm++) {
+            if (pulls[arm] == 0) {
+                return arm;
+            }
+            double score = rewards[arm] / pulls[arm] + Math.sqrt(2 * logTotal / pulls[arm]);
+            if (score > bestScore) {
+                bestScore = score;
+                best = arm;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Records the reward of a pulled arm.
+     *
+     * @param arm    the arm that was played
+     * @param reward the reward earned, between 0 and 1
+     */
+    public synchronized void update(int arm, double reward) {
+        pulls[arm]++;
+        rewards[arm] += reward;
+        totalPulls++;
+    }
+
+    /**
+     * Returns how often an arm was pulled.
+     *
+     * @param arm the arm index
+     * @return the pull count
+     */
+    public synchronized long getPulls(int arm) {
+        return pulls[arm];
+    }
+
+    /**
+     * Returns the mean reward of an arm.
+     *
+     * @param arm the arm index
+     * @return the mean reward, or 0 if the arm was never pulled
+     */
+    public synchronized double getMeanReward(int arm) {
+        return pulls[arm] == 0 ? 0 : rewards[arm] / pulls[arm];
+    }
+}
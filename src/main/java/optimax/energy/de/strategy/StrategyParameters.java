@@ -0,0 +1,106 @@
+package optimax.energy.de.strategy;
+
+import java.util.Arrays;
+
+/**
+ * The tunable constants of the heuristic strategies, as one immutable parameter vector:
+ * - medianOffset: MU MedianBasedStrategy bids over the median (10)
+ * - lowBudgetPercent: budget share under which TradingBot switches to SteadyStrategy (10)
+ * - randomMultiplier: scale of the random part of RandomStrategy bids (3)
+ * - pressingOffset: MU PressingStrategy bids over the opponent's last bid (5)
+ */
+public final class StrategyParameters {
+
+    /** Number of parameters in the vector. */
+    public static final int SIZE = 4;
+
+    /** Index of medianOffset in the array form. */
+    public static final int MEDIAN_OFFSET = 0;
+    /** Index of lowBudgetPercent in the array form. */
+    public static final int LOW_BUDGET_PERCENT = 1;
+    /** Index of randomMultiplier in the array form. */
+    public static final int RANDOM_MULTIPLIER = 2;
+    /** Index of pressingOffset in the array form. */
+    public static final int PRESSING_OFFSET = 3;
+
+    /** The hand-tuned values the strategies use by default. */
+    public static final StrategyParameters DEFAULTS = new StrategyParameters(
+            MedianBasedStrategy.DEFAULT_OFFSET, 10, RandomStrategy.DEFAULT_MULTIPLIER, PressingStrategy.DEFAULT_OFFSET);
+
+    private final int medianOffset;
+    private final int lowBudgetPercent;
+    private final int randomMultiplier;
+    private final int pressingOffset;
+
+    /**
+     * Constructs a parameter vector.
+     *
+     * @param medianOffset     MU bid over the opponent's median
+     * @param lowBudgetPercent budget share, in percent, considered low
+     * @param randomMultiplier scale of random bids
+     * @param pressingOffset   MU bid over the opponent's last bid
+     */
+    public StrategyParameters(int medianOffset, int lowBudgetPercent, int randomMultiplier, int pressingOffset) {
+        this.medianOffset = medianOffset;
+        this.lowBudgetPercent = lowBudgetPercent;
+        this.randomMultiplier = randomMultiplier;
+        this.pressingOffset = pressingOffset;
+    }
+
+    /**
+     * Builds a parameter vector from its array form.
+     *
+     * @param values the parameters in declaration order
+     * @return the parameter vector
+     * @throws IllegalArgumentException if the array does not hold SIZE values
+     */
+    public static StrategyParameters of(int[] values) {
+        if (values.length != SIZE) {
+            throw new IllegalArgumentException("Expected " + SIZE + " parameters, got " + values.length);
+        }
+        return new StrategyParameters(values[0], values[1], values[2], values[3]);
+    }
+
+    /**
+     * Returns the parameters as an array, in declaration order.
+     *
+     * @return a new array with the parameters
+     */
+    public int[] toArray() {
+        return new int[]{medianOffset, lowBudgetPercent, randomMultiplier, pressingOffset};
+    }
+
+    public int getMedianOffset() {
+        return medianOffset;
+    }
+
+    public int getLowBudgetPercent() {
+        return lowBudgetPercent;
+    }
+
+    public int getRandomMultiplier() {
+        return randomMultiplier;
+    }
+
+    public int getPressingOffset() {
+        return pressingOffset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof StrategyParameters other && Arrays.equals(toArray(), other.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return "StrategyParameters{medianOffset=" + medianOffset
+                + ", lowBudgetPercent=" + lowBudgetPercent
+                + ", randomMultiplier=" + randomMultiplier
+                + ", pressingOffset=" + pressingOffset + "}";
+    }
+}
@@ -0,0 +1,54 @@
+package optimax.energy.de.tournament;
+
+/**
+ * A closed interval [lower, upper] estimating an unknown value at some confidence level.
+ */
+public class ConfidenceInterval {
+
+    /** Standard normal quantile of a two-sided 95% interval. */
+    public static final double Z_95 = 1.959963984540054;
+
+    /** Standard normal quantile of a two-sided 99% interval. */
+    public static final double Z_99 = 2.5758293035489004;
+
+    private final double lower;
+    private final double upper;
+
+    /**
+     * Constructs an interval.
+     *
+     * @param lower the lower bound
+     * @param upper the upper bound
+     */
+    public ConfidenceInterval(double lower, double upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    public double getLower() {
+        return lower;
+    }
+
+    public double getUpper() {
+        return upper;
+    }
+
+    public double getWidth() {
+        return upper - lower;
+    }
+
+    /**
+     * Checks whether a value lies within the interval.
+     *
+     * @param value the value
+     * @return true if lower ≤ value ≤ upper
+     */
+    public boolean contains(double value) {
+        return value >= lower && value <= upper;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%.4f, %.4f]", lower, upper);
+    }
+}
@@ -0,0 +1,41 @@
+package optimax.energy.de.tournament;
+
+import optimax.energy.de.bot.Bot;
+
+import java.util.function.Supplier;
+
+/**
+ * A named tournament entry. Bots keep per-auction state (budget, quantity, history),
+ * so every match asks the factory for a fresh instance instead of reusing one bot.
+ */
+public class Contender {
+
+    /** Display name used in the result matrix. */
+    private final String name;
+    /** Creates a new, uninitialized bot for each match. */
+    private final Supplier<? extends Bot> factory;
+
+    /**
+     * Constructs a Contender.
+     *
+     * @param name    the display name of the entry
+     * @param factory supplier of fresh bots playing this entry's strategy
+     */
+    public Contender(String name, Supplier<? extends Bot> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Creates a new bot for one match.
+     *
+     * @return a fresh bot instance
+     */
+    public Bot newBot() {
+        return factory.get();
+    }
+}
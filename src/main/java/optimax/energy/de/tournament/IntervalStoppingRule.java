@@ -0,0 +1,49 @@
+package optimax.energy.de.tournament;
+
+/**
+ * Settles a pairing once the Wilson confidence interval of its win rate is narrow enough.
+ * One-sided pairings have narrow intervals early, while even pairings need the most matches,
+ * which is where the extra precision matters. A minimum number of matches guards against
+ * stopping on an early streak.
+ */
+public class IntervalStoppingRule implements StoppingRule {
+
+    /** Default number of matches played before a pairing can be settled. */
+    public static final int DEFAULT_MIN_MATCHES = 30;
+
+    private final double maxWidth;
+    private final double z;
+    private final long minMatches;
+
+    /**
+     * Constructs a rule at 95% confidence with the default minimum number of matches.
+     *
+     * @param maxWidth the interval width below which a pairing is settled
+     */
+    public IntervalStoppingRule(double maxWidth) {
+        this(maxWidth, ConfidenceInterval.Z_95, DEFAULT_MIN_MATCHES);
+    }
+
+    /**
+     * Constructs a rule.
+     *
+     * @param maxWidth   the interval width below which a pairing is settled, in (0, 1]
+     * @param z          the standard normal quantile of the confidence level
+     * @param minMatches matches played before a pairing can be settled
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public IntervalStoppingRule(double maxWidth, double z, long minMatches) {
+        if (!(maxWidth > 0 && maxWidth <= 1) || !(z > 0) || minMatches < 0) {
+            throw new IllegalArgumentException("Invalid interval rule: maxWidth=" + maxWidth
+                    + ", z=" + z + ", minMatches=" + minMatches);
+        }
+        this.maxWidth = maxWidth;
+        this.z = z;
+        this.minMatches = minMatches;
+    }
+
+    @Override
+    public boolean isSettled(PairingStats stats) {
+        return stats.getMatches() >= minMatches && stats.getWinRateInterval(z).getWidth() <= maxWidth;
+    }
+}
@@ -0,0 +1,197 @@
+package optimax.energy.de.tournament;
+
+/**
+ * Streaming results of one contender against another, seen from the first contender:
+ * win/draw/loss counts plus running mean and variance of the QU and the remaining MU of both sides.
+ *
+ * Memory is constant however many matches are recorded, so the bots of a match can be dropped
+ * as soon as it is recorded. Each fork-join task fills its own instance and instances are merged
+ * when tasks join, so no shared counters are touched while matches are being played.
+ * The running statistics are handed out as copies, so reading them cannot alter the results.
+ */
+public class PairingStats {
+
+    private long wins;
+    private long draws;
+    private long losses;
+    private final RunningStats quantity;
+    private final RunningStats opponentQuantity;
+    private final RunningStats budget;
+    private final RunningStats opponentBudget;
+
+    /**
+     * Constructs empty statistics.
+     */
+    public PairingStats() {
+        this(new RunningStats(), new RunningStats(), new RunningStats(), new RunningStats());
+    }
+
+    private PairingStats(RunningStats quantity, RunningStats opponentQuantity,
+                         RunningStats budget, RunningStats opponentBudget) {
+        this.quantity = quantity;
+        this.opponentQuantity = opponentQuantity;
+        this.budget = budget;
+        this.opponentBudget = opponentBudget;
+    }
+
+    /**
+     * Records a single match.
+     *
+     * @param outcome          positive for a win, zero for a draw, negative for a loss
+     * @param quantity         QU won by the first contender
+     * @param opponentQuantity QU won by the second contender
+     * @param budget           MU left to the first contender
+     * @param opponentBudget   MU left to the second contender
+     */
+    public void record(int outcome, int quantity, int opponentQuantity, int budget, int opponentBudget) {
+        if (outcome > 0) {
+            wins++;
+        } else if (outcome == 0) {
+            draws++;
+        } else {
+            losses++;
+        }
+        this.quantity.add(quantity);
+        this.opponentQuantity.add(opponentQuantity);
+        this.budget.add(budget);
+        this.opponentBudget.add(opponentBudget);
+    }
+
+    /**
+     * Adds the results of another instance to this one.
+     *
+     * @param other the statistics to merge
+     * @return this instance
+     */
+    public PairingStats merge(PairingStats other) {
+        wins += other.wins;
+        draws += other.draws;
+        losses += other.losses;
+        quantity.merge(other.quantity);
+        opponentQuantity.merge(other.opponentQuantity);
+        budget.merge(other.budget);
+        opponentBudget.merge(other.opponentBudget);
+        return this;
+    }
+
+    /**
+     * Returns a copy of these results.
+     *
+     * @return an independent copy
+     */
+    public PairingStats copy() {
+        PairingStats copy = new PairingStats(quantity.copy(), opponentQuantity.copy(), budget.copy(), opponentBudget.copy());
+        copy.wins = wins;
+        copy.draws = draws;
+        copy.losses = losses;
+        return copy;
+    }
+
+    /**
+     * Returns the same results seen from the second contender.
+     *
+     * @return a new instance with wins and losses and both sides swapped
+     */
+    public PairingStats mirrored() {
+        PairingStats mirror = new PairingStats(opponentQuantity.copy(), quantity.copy(),
+                opponentBudget.copy(), budget.copy());
+        mirror.wins = losses;
+        mirror.draws = draws;
+        mirror.losses = wins;
+        return mirror;
+    }
+
+    /**
+     * Returns the number of matches recorded.
+     *
+     * @return wins + draws + losses
+     */
+    public long getMatches() {
+        return wins + draws + losses;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    /**
+     * Returns the share of matches the first contender won.
+     *
+     * @return win rate in [0, 1], or 0 if no match was recorded
+     */
+    public double getWinRate() {
+        long matches = getMatches();
+        return matches == 0 ? 0.0 : (double) wins / matches;
+    }
+
+    /**
+     * Returns the Wilson score interval of the win rate. Unlike the normal approximation it stays
+     * inside [0, 1] and is reliable for rates close to 0 or 1, which one-sided pairings produce.
+     *
+     * @param z the standard normal quantile of the confidence level, e.g. {@link ConfidenceInterval#Z_95}
+     * @return the interval, [0, 1] if no match was recorded
+     */
+    public ConfidenceInterval getWinRateInterval(double z) {
+        long matches = getMatches();
+        if (matches == 0) {
+            return new ConfidenceInterval(0.0, 1.0);
+        }
+        double rate = (double) wins / matches;
+        double z2 = z * z;
+        double denominator = 1 + z2 / matches;
+        double center = (rate + z2 / (2.0 * matches)) / denominator;
+        double half = z * Math.sqrt(rate * (1 - rate) / matches + z2 / (4.0 * matches * matches)) / denominator;
+        return new ConfidenceInterval(Math.max(0.0, center - half), Math.min(1.0, center + half));
+    }
+
+    /**
+     * Returns the QU won by the first contender per match.
+     *
+     * @return a copy of the running mean and variance of the QU
+     */
+    public RunningStats getQuantity() {
+        return quantity.copy();
+    }
+
+    /**
+     * Returns the QU won by the second contender per match.
+     *
+     * @return a copy of the running mean and variance of the opponent's QU
+     */
+    public RunningStats getOpponentQuantity() {
+        return opponentQuantity.copy();
+    }
+
+    /**
+     * Returns the MU left to the first contender per match.
+     *
+     * @return a copy of the running mean and variance of the remaining budget
+     */
+    public RunningStats getBudget() {
+        return budget.copy();
+    }
+
+    /**
+     * Returns the MU left to the second contender per match.
+     *
+     * @return a copy of the running mean and variance of the opponent's remaining budget
+     */
+    public RunningStats getOpponentBudget() {
+        return opponentBudget.copy();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d/%d win rate %.3f %s, QU %.2f vs %.2f, MU left %.1f vs %.1f",
+                wins, draws, losses, getWinRate(), getWinRateInterval(ConfidenceInterval.Z_95),
+                quantity.getMean(), opponentQuantity.getMean(), budget.getMean(), opponentBudget.getMean());
+    }
+}
@@ -0,0 +1,127 @@
+package optimax.energy.de.tournament;
+
+import java.util.List;
+
+/**
+ * Aggregated results matrix of a tournament.
+ * Cell (i, j) holds the PairingStats of contender i against contender j, seen from i;
+ * cell (j, i) always holds the mirrored statistics. Memory depends only on the number of
+ * contenders, not on the number of matches played.
+ */
+public class ResultMatrix {
+
+    /** Contender names in matrix order. */
+    private final List<String> names;
+    private final PairingStats[][] stats;
+
+    /**
+     * Constructs an empty matrix for the given contenders.
+     *
+     * @param names contender names in matrix order
+     */
+    public ResultMatrix(List<String> names) {
+        int size = names.size();
+        this.names = List.copyOf(names);
+        this.stats = new PairingStats[size][size];
+        for (PairingStats[] row : stats) {
+            for (int j = 0; j < size; j++) {
+                row[j] = new PairingStats();
+            }
+        }
+    }
+
+    /**
+     * Adds the results of contender i against contender j and their mirror image.
+     *
+     * @param i       index of the first contender
+     * @param j       index of the second contender
+     * @param results results seen from contender i
+     */
+    void record(int i, int j, PairingStats results) {
+        stats[i][j].merge(results);
+        stats[j][i].merge(results.mirrored());
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public long getWins(int i, int j) {
+        return stats[i][j].getWins();
+    }
+
+    public long getDraws(int i, int j) {
+        return stats[i][j].getDraws();
+    }
+
+    public long getLosses(int i, int j) {
+        return stats[i][j].getLosses();
+    }
+
+    /**
+     * Returns the full statistics of contender i against contender j: counts, mean QU and MU left
+     * of both sides, and confidence intervals.
+     *
+     * @param i index of the contender
+     * @param j index of the opponent
+     * @return a copy of the statistics seen from contender i
+     */
+    public PairingStats getStats(int i, int j) {
+        return stats[i][j].copy();
+    }
+
+    /**
+     * Returns the share of matches contender i won against contender j.
+     *
+     * @param i index of the contender
+     * @param j index of the opponent
+     * @return win rate in [0, 1], or 0 if the pairing was never played
+     */
+    public double getWinRate(int i, int j) {
+        return stats[i][j].getWinRate();
+    }
+
+    /**
+     * Returns the total number of matches contender i won against all opponents.
+     *
+     * @param i index of the contender
+     * @return total wins
+     */
+    public long getTotalWins(int i) {
+        long total = 0;
+        for (PairingStats cell : stats[i]) {
+            total += cell.getWins();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the matrix as a table with one "W/D/L" cell per pairing.
+     *
+     * @return a printable table
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-20s", ""));
+        for (String name : names) {
+            sb.append(String.format("%20s", name));
+        }
+        sb.append('\n');
+        for (int i = 0; i < names.size(); i++) {
+            sb.append(String.format("%-20s", names.get(i)));
+            for (int j = 0; j < names.size(); j++) {
+                PairingStats pairing = stats[i][j];
+                String cell = i == j ? "-"
+                        : pairing.getWins() + "/" + pairing.getDraws() + "/" + pairing.getLosses();
+                sb.append(String.format("%20s", cell));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
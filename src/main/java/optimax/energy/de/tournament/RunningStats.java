@@ -0,0 +1,112 @@
+package optimax.energy.de.tournament;
+
+/**
+ * Count, mean and variance of a stream of values in constant memory.
+ * Values are added with Welford's online update, which stays accurate where the naive
+ * sum of squares cancels out, and two instances filled on different threads are combined
+ * with the parallel form of the same update (Chan et al.), so no values are ever kept.
+ *
+ * Instances are not thread-safe: each worker fills its own and they are merged afterwards.
+ */
+public class RunningStats {
+
+    private long count;
+    private double mean;
+    /** Sum of squared deviations from the mean. */
+    private double m2;
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    /**
+     * Adds the values of another instance to this one.
+     *
+     * @param other the statistics to merge
+     * @return this instance
+     */
+    public RunningStats merge(RunningStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            return this;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the values.
+     *
+     * @return the mean, or 0 if no value was added
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the sample variance of the values.
+     *
+     * @return the variance, or 0 for fewer than two values
+     */
+    public double getVariance() {
+        return count < 2 ? 0.0 : m2 / (count - 1);
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns the standard error of the mean.
+     *
+     * @return the standard error, or 0 if no value was added
+     */
+    public double getStandardError() {
+        return count == 0 ? 0.0 : Math.sqrt(getVariance() / count);
+    }
+
+    /**
+     * Returns a normal-approximation confidence interval of the mean.
+     *
+     * @param z the standard normal quantile of the confidence level, e.g. {@link ConfidenceInterval#Z_95}
+     * @return the interval mean ± z · standard error
+     */
+    public ConfidenceInterval getConfidenceInterval(double z) {
+        double half = z * getStandardError();
+        return new ConfidenceInterval(mean - half, mean + half);
+    }
+
+    /**
+     * Returns a copy of this instance.
+     *
+     * @return an independent copy
+     */
+    public RunningStats copy() {
+        RunningStats copy = new RunningStats();
+        copy.count = count;
+        copy.mean = mean;
+        copy.m2 = m2;
+        return copy;
+    }
+}
@@ -0,0 +1,67 @@
+package optimax.energy.de.tournament;
+
+/**
+ * Wald's sequential probability ratio test on the decisive matches of a pairing.
+ *
+ * Draws are ignored; for the remaining matches the test weighs H0 "the first contender wins
+ * with probability 1/2 − delta" against H1 "it wins with probability 1/2 + delta". The pairing
+ * is settled as soon as the log-likelihood ratio crosses either bound, which happens after a
+ * handful of matches for a one-sided pairing and after many for an even one.
+ * alpha and beta bound the chance of declaring the wrong side stronger when the true rate lies
+ * outside the indifference zone 1/2 ± delta.
+ */
+public class SprtStoppingRule implements StoppingRule {
+
+    /** Log-likelihood ratio added by a win of the first contender. */
+    private final double winWeight;
+    /** Log-likelihood ratio added by a loss of the first contender. */
+    private final double lossWeight;
+    /** Ratio above which H1 is accepted. */
+    private final double upperBound;
+    /** Ratio below which H0 is accepted. */
+    private final double lowerBound;
+
+    /**
+     * Constructs a test with 5% error rates and an indifference zone of 1/2 ± 0.05.
+     */
+    public SprtStoppingRule() {
+        this(0.05, 0.05, 0.05);
+    }
+
+    /**
+     * Constructs a test.
+     *
+     * @param delta half width of the indifference zone around an even win rate, in (0, 0.5)
+     * @param alpha accepted chance of wrongly accepting H1, in (0, 1)
+     * @param beta  accepted chance of wrongly accepting H0, in (0, 1)
+     * @throws IllegalArgumentException if a parameter is out of range
+     */
+    public SprtStoppingRule(double delta, double alpha, double beta) {
+        if (!(delta > 0 && delta < 0.5) || !(alpha > 0 && alpha < 1) || !(beta > 0 && beta < 1)) {
+            throw new IllegalArgumentException("Invalid SPRT parameters: delta=" + delta
+                    + ", alpha=" + alpha + ", beta=" + beta);
+        }
+        double p0 = 0.5 - delta;
+        double p1 = 0.5 + delta;
+        this.winWeight = Math.log(p1 / p0);
+        this.lossWeight = Math.log((1 - p1) / (1 - p0));
+        this.upperBound = Math.log((1 - beta) / alpha);
+        this.lowerBound = Math.log(beta / (1 - alpha));
+    }
+
+    /**
+     * Returns the log-likelihood ratio of H1 against H0 for the results so far.
+     *
+     * @param stats the results of the pairing
+     * @return the log-likelihood ratio
+     */
+    public double logLikelihoodRatio(PairingStats stats) {
+        return stats.getWins() * winWeight + stats.getLosses() * lossWeight;
+    }
+
+    @Override
+    public boolean isSettled(PairingStats stats) {
+        double ratio = logLikelihoodRatio(stats);
+        return ratio >= upperBound || ratio <= lowerBound;
+    }
+}
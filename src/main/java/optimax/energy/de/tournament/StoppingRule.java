@@ -0,0 +1,27 @@
+package optimax.energy.de.tournament;
+
+/**
+ * Decides when the outcome of a pairing is known well enough to stop playing it.
+ * A tournament with a stopping rule plays its pairings batch by batch and asks the rule
+ * after every batch, so one-sided pairings stop early and the pool works on the close ones.
+ */
+public interface StoppingRule {
+
+    /**
+     * Checks whether a pairing needs no more matches.
+     *
+     * @param stats the results of the pairing so far
+     * @return true if the pairing is settled
+     */
+    boolean isSettled(PairingStats stats);
+
+    /**
+     * Combines this rule with another one, settling a pairing as soon as either rule does.
+     *
+     * @param other the other rule
+     * @return the combined rule
+     */
+    default StoppingRule or(StoppingRule other) {
+        return stats -> isSettled(stats) || other.isSettled(stats);
+    }
+}
@@ -0,0 +1,326 @@
+package optimax.energy.de.tournament;
+
+import optimax.energy.de.bot.Bot;
+import optimax.energy.de.simulation.Auction;
+import optimax.energy.de.simulation.Seeds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Round-robin tournament between bidding bots.
+ * Every pair of contenders plays a fixed number of auctions against each other.
+ * Matches are independent, so they are split into fork-join tasks and spread
+ * over all cores; each task streams its results into its own PairingStats and the
+ * statistics are merged when the tasks join, producing a results matrix. The bots of a
+ * match are dropped as soon as it is recorded, so memory does not grow with the number of matches.
+ *
+ * Every match is seeded from the tournament seed, the pairing and the match index,
+ * so a tournament with the same seed gives identical results on any number of threads.
+ *
+ * With a StoppingRule set, auctionsPerPairing becomes an upper bound: pairings are played
+ * batch by batch, and a pairing the rule considers settled gets no further batches. The batches
+ * of the open pairings grow as others settle, in proportion to all pairings over the open ones,
+ * so every round of batches keeps the pool as busy as the first and the work moves to the close
+ * pairings. Batch sizes depend only on the results, not on the pool, so adaptive tournaments are
+ * reproducible as well.
+ */
+public class Tournament {
+
+    /** Matches a single task plays sequentially before it stops splitting. */
+    private static final int MATCHES_PER_TASK = 64;
+
+    /** Matches per pairing between two checks of the stopping rule, unless set otherwise. */
+    public static final int DEFAULT_BATCH_SIZE = 128;
+
+    /** Registered tournament entries. */
+    private final List<Contender> contenders;
+    /** Total QU auctioned in each match. */
+    private final int quantity;
+    /** Starting MU of every bot in each match. */
+    private final int cash;
+    /** Number of auctions played for every pairing. */
+    private final int auctionsPerPairing;
+    /** Pool that executes the matches. */
+    private final ForkJoinPool pool;
+    /** Master seed of all matches. */
+    private long seed;
+    /** Rule stopping settled pairings early, or null to play every pairing in full. */
+    private StoppingRule stoppingRule;
+    /** Matches per pairing between two checks of the stopping rule. */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    /** Whether matches stop as soon as their winner is decided. */
+    private boolean fastFinish;
+
+    /**
+     * Constructs a Tournament running on the common fork-join pool.
+     *
+     * @param quantity           total QU auctioned in each match
+     * @param cash               starting MU of every bot
+     * @param auctionsPerPairing number of auctions played for every pairing
+     */
+    public Tournament(int quantity, int cash, int auctionsPerPairing) {
+        this(quantity, cash, auctionsPerPairing, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a Tournament running on the given fork-join pool.
+     *
+     * @param quantity           total QU auctioned in each match
+     * @param cash               starting MU of every bot
+     * @param auctionsPerPairing number of auctions played for every pairing
+     * @param pool               the pool executing the matches
+     */
+    public Tournament(int quantity, int cash, int auctionsPerPairing, ForkJoinPool pool) {
+        this.contenders = new ArrayList<>();
+        this.quantity = quantity;
+        this.cash = cash;
+        this.auctionsPerPairing = auctionsPerPairing;
+        this.pool = pool;
+        this.seed = new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Registers a contender.
+     *
+     * @param name    the display name of the entry
+     * @param factory supplier of fresh bots for every match
+     */
+    public void addContender(String name, Supplier<? extends Bot> factory) {
+        contenders.add(new Contender(name, factory));
+    }
+
+    public List<Contender> getContenders() {
+        return contenders;
+    }
+
+    /**
+     * Returns the master seed; a random one is chosen unless setSeed() was called.
+     *
+     * @return the master seed of all matches
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Stops playing a pairing once the given rule considers its outcome settled.
+     *
+     * @param stoppingRule the rule checked after every batch, or null to play every pairing in full
+     */
+    public void setStoppingRule(StoppingRule stoppingRule) {
+        this.stoppingRule = stoppingRule;
+    }
+
+    /**
+     * Sets the number of matches played per pairing between two checks of the stopping rule
+     * while no pairing is settled. Once some are, the batches of the others grow accordingly.
+     *
+     * @param batchSize matches per batch, at least 1
+     * @throws IllegalArgumentException if batchSize is less than 1
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Stops every match as soon as its winner is decided. Win/draw/loss counts are unchanged,
+     * but the QU and MU statistics then describe the matches at the point they were stopped.
+     *
+     * @param fastFinish true to skip the lots of decided matches
+     * @see Auction#setFastFinish(boolean)
+     */
+    public void setFastFinish(boolean fastFinish) {
+        this.fastFinish = fastFinish;
+    }
+
+    /**
+     * Plays every pairing and aggregates the results.
+     *
+     * @return the results matrix of all contenders
+     */
+    public ResultMatrix run() {
+        List<String> names = contenders.stream().map(Contender::getName).toList();
+        ResultMatrix matrix = new ResultMatrix(names);
+
+        int pairings = contenders.size() * (contenders.size() - 1) / 2;
+        int[] firsts = new int[pairings];
+        int[] seconds = new int[pairings];
+        long[] seeds = new long[pairings];
+        PairingStats[] results = new PairingStats[pairings];
+        int p = 0;
+        for (int i = 0; i < contenders.size(); i++) {
+            for (int j = i + 1; j < contenders.size(); j++) {
+                firsts[p] = i;
+                seconds[p] = j;
+                seeds[p] = Seeds.derive(seed, (long) i * contenders.size() + j);
+                results[p] = new PairingStats();
+                p++;
+            }
+        }
+
+        int[] played = new int[pairings];
+        int open = auctionsPerPairing > 0 ? pairings : 0;
+        while (open > 0) {
+            long step = stoppingRule == null ? auctionsPerPairing
+                    : (long) batchSize * ((pairings + open - 1) / open);
+            List<PairingTask> batch = new ArrayList<>();
+            for (p = 0; p < pairings; p++) {
+                if (played[p] < auctionsPerPairing) {
+                    int to = (int) Math.min(played[p] + step, auctionsPerPairing);
+                    batch.add(new PairingTask(p, firsts[p], seconds[p], seeds[p], played[p], to));
+                    played[p] = to;
+                }
+            }
+            playAll(batch);
+            for (PairingTask task : batch) {
+                PairingStats pairingResults = results[task.pairing].merge(task.join());
+                if (stoppingRule != null && stoppingRule.isSettled(pairingResults.copy())) {
+                    played[task.pairing] = auctionsPerPairing;
+                }
+                if (played[task.pairing] == auctionsPerPairing) {
+                    open--;
+                }
+            }
+        }
+        for (p = 0; p < pairings; p++) {
+            matrix.record(firsts[p], seconds[p], results[p]);
+        }
+        return matrix;
+    }
+
+    /**
+     * Runs tasks on the pool and waits for all of them.
+     */
+    private void playAll(List<PairingTask> tasks) {
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                invokeAll(tasks);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Plays a single auction between two contenders and records it.
+     * Seats alternate with the match index so neither side always bids first.
+     *
+     * @param first   the first contender
+     * @param second  the second contender
+     * @param seed    the seed of the match
+     * @param match   the match index within the pairing
+     * @param results the statistics receiving the match, seen from the first contender
+     */
+    void playMatch(Contender first, Contender second, long seed, int match, PairingStats results) {
+        Bot a = first.newBot();
+        Bot b = second.newBot();
+        int outcome = playMatch(a, b, quantity, cash, seed, match, fastFinish);
+        results.record(outcome, a.getQuantity(), b.getQuantity(), a.getBudget(), b.getBudget());
+    }
+
+    /**
+     * Plays a single seeded auction between two fresh bots.
+     * Seats alternate with the match index so neither side always bids first.
+     *
+     * @param a        the first bot
+     * @param b        the second bot
+     * @param quantity total QU auctioned
+     * @param cash     starting MU of both bots
+     * @param seed     the seed of the match
+     * @param match    the match index, deciding the seating
+     * @return positive if the first bot won, zero on a draw, negative otherwise
+     */
+    public static int playMatch(Bot a, Bot b, int quantity, int cash, long seed, int match) {
+        return playMatch(a, b, quantity, cash, seed, match, false);
+    }
+
+    /**
+     * Plays a single seeded auction between two fresh bots, optionally stopping it as soon as
+     * its winner is decided. The outcome is the same either way.
+     *
+     * @param a          the first bot
+     * @param b          the second bot
+     * @param quantity   total QU auctioned
+     * @param cash       starting MU of both bots
+     * @param seed       the seed of the match
+     * @param match      the match index, deciding the seating
+     * @param fastFinish true to skip the lots of a decided auction
+     * @return positive if the first bot won, zero on a draw, negative otherwise
+     */
+    public static int playMatch(Bot a, Bot b, int quantity, int cash, long seed, int match, boolean fastFinish) {
+        a.init(0, cash);
+        b.init(0, cash);
+
+        Auction auction = match % 2 == 0 ? new Auction(quantity, a, b) : new Auction(quantity, b, a);
+        auction.setSeed(seed);
+        auction.setFastFinish(fastFinish);
+        auction.start();
+
+        return compare(a, b);
+    }
+
+    /**
+     * Compares two bots by the auction rules: most QU wins, ties go to the one with more MU left.
+     *
+     * @param a the first bot
+     * @param b the second bot
+     * @return positive if a won, zero on a draw, negative if b won
+     */
+    static int compare(Bot a, Bot b) {
+        int byQuantity = Integer.compare(a.getQuantity(), b.getQuantity());
+        return byQuantity != 0 ? byQuantity : Integer.compare(a.getBudget(), b.getBudget());
+    }
+
+    /**
+     * Plays a range of matches of one pairing, splitting itself while the range is large.
+     */
+    @SuppressWarnings("serial")
+    private class PairingTask extends RecursiveTask<PairingStats> {
+
+        private final int pairing;
+        private final int first;
+        private final int second;
+        private final long pairingSeed;
+        private final int from;
+        private final int to;
+
+        PairingTask(int pairing, int first, int second, long pairingSeed, int from, int to) {
+            this.pairing = pairing;
+            this.first = first;
+            this.second = second;
+            this.pairingSeed = pairingSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected PairingStats compute() {
+            if (to - from <= MATCHES_PER_TASK) {
+                PairingStats results = new PairingStats();
+                Contender a = contenders.get(first);
+                Contender b = contenders.get(second);
+                for (int match = from; match < to; match++) {
+                    playMatch(a, b, Seeds.derive(pairingSeed, match), match, results);
+                }
+                return results;
+            }
+            int mid = (from + to) >>> 1;
+            PairingTask left = new PairingTask(pairing, first, second, pairingSeed, from, mid);
+            PairingTask right = new PairingTask(pairing, first, second, pairingSeed, mid, to);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package optimax.energy.de.tuning;
+
+import optimax.energy.de.bot.Bot;
+import optimax.energy.de.simulation.Seeds;
+import optimax.energy.de.strategy.StrategyParameters;
+import optimax.energy.de.tournament.Contender;
+import optimax.energy.de.tournament.Tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Evolves StrategyParameters with a genetic search.
+ *
+ * Every generation, each candidate plays a fixed number of auctions against every registered
+ * opponent; its fitness is its win rate, draws counting half. All candidates of a generation
+ * play the same seeded matches, so they are compared on equal terms. The fittest candidates
+ * survive unchanged, the rest of the next generation is bred from parents picked by
+ * tournament selection, with uniform crossover and bounded mutation. Parameters the candidate
+ * bots do not use can be left out of the search; they keep their default values.
+ *
+ * Matches are split into fork-join tasks like tournament pairings. Every random decision is
+ * derived from the tuner seed and per-task results are summed, so a run with the same seed
+ * gives the same result on any number of threads.
+ */
+public class GeneticTuner {
+
+    /** Smallest value of every parameter. */
+    private static final int[] MIN = {0, 0, 1, 0};
+    /** Largest value of every parameter. */
+    private static final int[] MAX = {100, 50, 10, 100};
+    /** Candidates carried over unchanged to the next generation. */
+    private static final int ELITE_COUNT = 2;
+    /** Candidates compared to pick one parent. */
+    private static final int SELECTION_SIZE = 3;
+    /** Matches a single task plays sequentially before it stops splitting. */
+    private static final int MATCHES_PER_TASK = 64;
+
+    /** Builds a bot playing a candidate parameter vector. */
+    private final Function<StrategyParameters, ? extends Bot> candidateFactory;
+    /** Opponents every candidate is measured against. */
+    private final List<Contender> opponents = new ArrayList<>();
+    /** Total QU auctioned in each match. */
+    private final int quantity;
+    /** Starting MU of every bot in each match. */
+    private final int cash;
+    /** Pool that executes the matches. */
+    private final ForkJoinPool pool;
+
+    private int populationSize = 32;
+    private int generations = 20;
+    private int matchesPerOpponent = 100;
+    private double mutationRate = 0.25;
+    private long seed = new SplittableRandom().nextLong();
+    /** Whether each parameter is searched or kept at its default. */
+    private final boolean[] tuned = {true, true, true, true};
+
+    /**
+     * Constructs a GeneticTuner running on the common fork-join pool.
+     *
+     * @param candidateFactory builds a fresh bot playing the given parameters
+     * @param quantity         total QU auctioned in each match
+     * @param cash             starting MU of every bot
+     */
+    public GeneticTuner(Function<StrategyParameters, ? extends Bot> candidateFactory, int quantity, int cash) {
+        this(candidateFactory, quantity, cash, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a GeneticTuner running on the given fork-join pool.
+     *
+     * @param candidateFactory builds a fresh bot playing the given parameters
+     * @param quantity         total QU auctioned in each match
+     * @param cash             starting MU of every bot
+     * @param pool             the pool executing the matches
+     */
+    public GeneticTuner(Function<StrategyParameters, ? extends Bot> candidateFactory, int quantity, int cash,
+                        ForkJoinPool pool) {
+        this.candidateFactory = candidateFactory;
+        this.quantity = quantity;
+        this.cash = cash;
+        this.pool = pool;
+    }
+
+    /**
+     * Registers an opponent the candidates are measured against.
+     *
+     * @param name    the display name of the opponent
+     * @param factory supplier of fresh opponent bots for every match
+     */
+    public void addOpponent(String name, Supplier<? extends Bot> factory) {
+        opponents.add(new Contender(name, factory));
+    }
+
+    public void setPopulationSize(int populationSize) {
+        this.populationSize = Math.max(ELITE_COUNT + 1, populationSize);
+    }
+
+    public void setGenerations(int generations) {
+        this.generations = Math.max(1, generations);
+    }
+
+    /**
+     * Sets the number of auctions every candidate plays against each opponent per generation.
+     *
+     * @param matchesPerOpponent auctions per opponent, at least 1
+     * @throws IllegalArgumentException if matchesPerOpponent is less than 1
+     */
+    public void setMatchesPerOpponent(int matchesPerOpponent) {
+        if (matchesPerOpponent < 1) {
+            throw new IllegalArgumentException("Matches per opponent must be at least 1: " + matchesPerOpponent);
+        }
+        this.matchesPerOpponent = matchesPerOpponent;
+    }
+
+    /**
+     * Restricts the search to the given parameters; all others keep their default values.
+     * Leaving out parameters the candidate bots ignore keeps the search from drifting on them.
+     * All parameters are searched unless this is called.
+     *
+     * @param indices indices into the parameter vector, such as StrategyParameters.MEDIAN_OFFSET
+     * @throws IllegalArgumentException if no index is given or an index is out of range
+     */
+    public void setTunedParameters(int... indices) {
+        if (indices.length == 0) {
+            throw new IllegalArgumentException("At least one parameter must be tuned");
+        }
+        boolean[] selected = new boolean[StrategyParameters.SIZE];
+        for (int index : indices) {
+            if (index < 0 || index >= StrategyParameters.SIZE) {
+                throw new IllegalArgumentException("No parameter with index " + index);
+            }
+            selected[index] = true;
+        }
+        System.arraycopy(selected, 0, tuned, 0, selected.length);
+    }
+
+    public void setMutationRate(double mutationRate) {
+        this.mutationRate = mutationRate;
+    }
+
+    /**
+     * Returns the master seed; a random one is chosen unless setSeed() was called.
+     *
+     * @return the seed of all random decisions and matches
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Runs the search, starting from the default parameters and random vectors.
+     *
+     * @return the fittest parameters of the last generation
+     * @throws IllegalStateException if no opponent is registered
+     */
+    public TuningResult run() {
+        if (opponents.isEmpty()) {
+            throw new IllegalStateException("No opponent to tune against");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] population = new int[populationSize][];
+        population[0] = StrategyParameters.DEFAULTS.toArray();
+        for (int i = 1; i < populationSize; i++) {
+            population[i] = randomParameters(random);
+        }
+
+        double[] generationBest = new double[generations];
+        double[] fitness = null;
+        Integer[] ranking = null;
+        for (int generation = 0; generation < generations; generation++) {
+            fitness = evaluate(population, Seeds.derive(seed, generation));
+            ranking = rank(fitness);
+            generationBest[generation] = fitness[ranking[0]];
+            if (generation < generations - 1) {
+                population = breed(population, fitness, ranking, random);
+            }
+        }
+        return new TuningResult(StrategyParameters.of(population[ranking[0]]), fitness[ranking[0]], generationBest);
+    }
+
+    /**
+     * Plays every candidate against every opponent and returns the win rates.
+     */
+    private double[] evaluate(int[][] population, long generationSeed) {
+        StrategyParameters[] candidates = Arrays.stream(population)
+                .map(StrategyParameters::of)
+                .toArray(StrategyParameters[]::new);
+        int matches = opponents.size() * matchesPerOpponent;
+        long[] points = pool.invoke(new EvaluationTask(candidates, generationSeed, 0, candidates.length * matches));
+
+        double[] fitness = new double[population.length];
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = points[i] / (2.0 * matches);
+        }
+        return fitness;
+    }
+
+    /**
+     * Returns the candidate indices sorted by descending fitness, lower index first on ties.
+     */
+    private static Integer[] rank(double[] fitness) {
+        Integer[] ranking = IntStream.range(0, fitness.length).boxed().toArray(Integer[]::new);
+        Arrays.sort(ranking, Comparator.comparingDouble((Integer i) -> -fitness[i]).thenComparingInt(i -> i));
+        return ranking;
+    }
+
+    /**
+     * Builds the next generation: the elite unchanged, the rest bred from selected parents.
+     */
+    private int[][] breed(int[][] population, double[] fitness, Integer[] ranking, SplittableRandom random) {
+        int[][] next = new int[population.length][];
+        int elite = Math.min(ELITE_COUNT, population.length);
+        for (int i = 0; i < elite; i++) {
+            next[i] = population[ranking[i]].clone();
+        }
+        for (int i = elite; i < next.length; i++) {
+            int[] mother = population[select(fitness, random)];
+            int[] father = population[select(fitness, random)];
+            int[] child = new int[StrategyParameters.SIZE];
+            for (int gene = 0; gene < child.length; gene++) {
+                if (!tuned[gene]) {
+                    child[gene] = mother[gene];
+                    continue;
+                }
+                child[gene] = random.nextBoolean() ? mother[gene] : father[gene];
+                if (random.nextDouble() < mutationRate) {
+                    int step = Math.max(1, (MAX[gene] - MIN[gene]) / 10);
+                    child[gene] = clamp(gene, child[gene] + random.nextInt(-step, step + 1));
+                }
+            }
+            next[i] = child;
+        }
+        return next;
+    }
+
+    /**
+     * Picks the fittest of a few random candidates.
+     */
+    private static int select(double[] fitness, SplittableRandom random) {
+        int best = random.nextInt(fitness.length);
+        for (int i = 1; i < SELECTION_SIZE; i++) {
+            int other = random.nextInt(fitness.length);
+            if (fitness[other] > fitness[best] || (fitness[other] == fitness[best] && other < best)) {
+                best = other;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Draws a random vector; parameters left out of the search keep their default value.
+     */
+    private int[] randomParameters(SplittableRandom random) {
+        int[] parameters = StrategyParameters.DEFAULTS.toArray();
+        for (int gene = 0; gene < parameters.length; gene++) {
+            if (tuned[gene]) {
+                parameters[gene] = random.nextInt(MIN[gene], MAX[gene] + 1);
+            }
+        }
+        return parameters;
+    }
+
+    private static int clamp(int gene, int value) {
+        return Math.max(MIN[gene], Math.min(MAX[gene], value));
+    }
+
+    /**
+     * Plays a range of the flattened (candidate, opponent, match) space, splitting itself while
+     * the range is large, and returns the points of every candidate: 2 per win, 1 per draw.
+     */
+    @SuppressWarnings("serial")
+    private class EvaluationTask extends RecursiveTask<long[]> {
+
+        private final StrategyParameters[] candidates;
+        private final long generationSeed;
+        private final int from;
+        private final int to;
+
+        EvaluationTask(StrategyParameters[] candidates, long generationSeed, int from, int to) {
+            this.candidates = candidates;
+            this.generationSeed = generationSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from > MATCHES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                EvaluationTask left = new EvaluationTask(candidates, generationSeed, from, middle);
+                left.fork();
+                long[] right = new EvaluationTask(candidates, generationSeed, middle, to).compute();
+                long[] points = left.join();
+                for (int i = 0; i < points.length; i++) {
+                    points[i] += right[i];
+                }
+                return points;
+            }
+
+            long[] points = new long[candidates.length];
+            int matches = opponents.size() * matchesPerOpponent;
+            for (int index = from; index < to; index++) {
+                int candidate = index / matches;
+                int match = index % matches;
+                Contender opponent = opponents.get(match / matchesPerOpponent);
+                // The same matches for every candidate of the generation
+                long matchSeed = Seeds.derive(generationSeed, match);
+                // Only the outcome counts, so decided matches can stop early
+                int outcome = Tournament.playMatch(candidateFactory.apply(candidates[candidate]),
+                        opponent.newBot(), quantity, cash, matchSeed, match, true);
+                points[candidate] += outcome > 0 ? 2 : outcome == 0 ? 1 : 0;
+            }
+            return points;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package optimax.energy.de.tuning;
+
+import optimax.energy.de.strategy.StrategyParameters;
+
+/**
+ * Outcome of a genetic tuning run.
+ */
+public class TuningResult {
+
+    /** Fittest parameters of the last generation. */
+    private final StrategyParameters best;
+    /** Fitness of the best parameters in the last generation. */
+    private final double bestFitness;
+    /** Best fitness of every generation, in order. */
+    private final double[] generationBestFitness;
+
+    /**
+     * Constructs a TuningResult.
+     *
+     * @param best                  fittest parameters of the last generation
+     * @param bestFitness           their fitness
+     * @param generationBestFitness best fitness of every generation
+     */
+    public TuningResult(StrategyParameters best, double bestFitness, double[] generationBestFitness) {
+        this.best = best;
+        this.bestFitness = bestFitness;
+        this.generationBestFitness = generationBestFitness;
+    }
+
+    public StrategyParameters getBest() {
+        return best;
+    }
+
+    /**
+     * Returns the fitness of the best parameters: their win rate, draws counting half.
+     *
+     * @return the fitness between 0 and 1
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public double[] getGenerationBestFitness() {
+        return generationBestFitness.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TuningResult{best=%s, fitness=%.4f, generations=%d}",
+                best, bestFitness, generationBestFitness.length);
+    }
+}
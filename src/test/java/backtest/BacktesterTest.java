@@ -0,0 +1,88 @@
+package backtest;
+
+import bot.FixedBidBot;
+import optimax.energy.de.backtest.BacktestResult;
+import optimax.energy.de.backtest.Backtester;
+import optimax.energy.de.simulation.Auction;
+import optimax.energy.de.simulation.JournalReader;
+import optimax.energy.de.strategy.PressingStrategy;
+import optimax.energy.de.strategy.SteadyStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BacktesterTest {
+
+    @Test
+    void testCandidatesAreReplayedAgainstRecordedBids() throws IOException {
+        Path file = Files.createTempFile("auction", ".journal");
+        try {
+            FixedBidBot recorded = new FixedBidBot("Recorded", 10);
+            FixedBidBot opponent = new FixedBidBot("Opponent", 20);
+            recorded.init(0, 1000);
+            opponent.init(0, 1000);
+            Auction auction = new Auction(20, recorded, opponent);
+            auction.setJournalFile(file);
+            auction.start();
+
+            try (JournalReader journal = new JournalReader(file)) {
+                Backtester backtester = new Backtester(journal, "Opponent", 1000);
+                backtester.addCandidate("Pressing", PressingStrategy::new);
+                backtester.addCandidate("Steady", SteadyStrategy::new);
+
+                List<BacktestResult> results = backtester.run();
+
+                // Pressing bids 0 in the first round and 20 + 5 afterwards: loses one lot, wins nine
+                BacktestResult pressing = results.get(0);
+                assertEquals("Pressing", pressing.getName());
+                assertEquals(18, pressing.getQuantity());
+                assertEquals(2, pressing.getOpponentQuantity());
+                assertEquals(1000 - 9 * 25, pressing.getBudget());
+                assertEquals(800, pressing.getOpponentBudget());
+                assertTrue(pressing.getOutcome() > 0);
+
+                assertEquals("Steady", results.get(1).getName());
+                assertEquals(20, results.get(1).getQuantity() + results.get(1).getOpponentQuantity());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testCandidatesSeeTheAuctionedQuantityOfFastFinishedAuctions() throws IOException {
+        Path file = Files.createTempFile("auction", ".journal");
+        try {
+            FixedBidBot recorded = new FixedBidBot("Recorded", 10);
+            FixedBidBot opponent = new FixedBidBot("Opponent", 20);
+            recorded.init(0, 1000);
+            opponent.init(0, 1000);
+            Auction auction = new Auction(40, recorded, opponent);
+            auction.setJournalFile(file);
+            auction.setFastFinish(true);
+            auction.start();
+
+            try (JournalReader journal = new JournalReader(file)) {
+                List<Integer> seen = new ArrayList<>();
+                Backtester backtester = new Backtester(journal, "Opponent", 1000);
+
+                backtester.replay("Recording", (budget, history, amountOfQU) -> {
+                    seen.add(amountOfQU);
+                    return 0;
+                });
+
+                // 11 of 20 lots were played before the outcome was decided
+                assertEquals(11, seen.size());
+                assertTrue(seen.stream().allMatch(amountOfQU -> amountOfQU == 40));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
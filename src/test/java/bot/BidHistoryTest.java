@@ -0,0 +1,98 @@
+package bot;
+
+import optimax.energy.de.bot.BidHistory;
+import optimax.energy.de.bot.BidsStatistic;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for BidHistory class.
+ */
+class BidHistoryTest {
+
+    @Test
+    void testAggregatesFollowAddedRounds() {
+        BidHistory history = new BidHistory();
+
+        history.add(10, 5);   // win
+        history.add(7, 7);    // tie
+        history.add(3, 9);    // loss
+        history.add(20, 1);   // win
+
+        assertEquals(4, history.size());
+        assertEquals(40, history.getOwnSum());
+        assertEquals(22, history.getEnemySum());
+        assertEquals(2, history.getWins());
+        assertEquals(1, history.getTies());
+        assertEquals(1, history.getLosses());
+        assertEquals(20, history.getLastOwnBid());
+        assertEquals(1, history.getLastEnemyBid());
+        assertEquals(9, history.getEnemyBid(2));
+    }
+
+    @Test
+    void testGrowsBeyondInitialCapacity() {
+        BidHistory history = new BidHistory();
+
+        for (int i = 0; i < 1000; i++) {
+            history.add(i, 2 * i);
+        }
+
+        assertEquals(1000, history.size());
+        assertEquals(999, history.getOwnBid(999));
+        assertEquals(1998, history.getLastEnemyBid());
+    }
+
+    @Test
+    void testListAdapterRoundTrip() {
+        BidHistory history = BidHistory.of(List.of(new BidsStatistic(1, 2), new BidsStatistic(3, 4)));
+
+        List<BidsStatistic> list = history.asList();
+
+        assertEquals(2, list.size());
+        assertEquals(3, list.get(1).getOwnBid());
+        assertEquals(4, list.get(1).getEnemiesBid());
+    }
+
+    @Test
+    void testOutOfRangeRoundIsRejected() {
+        BidHistory history = new BidHistory();
+
+        assertThrows(IndexOutOfBoundsException.class, history::getLastEnemyBid);
+    }
+
+    @Test
+    void testWindowRetainsOnlyLastRounds() {
+        BidHistory history = new BidHistory(3);
+
+        history.add(10, 5);   // win
+        history.add(7, 7);    // tie
+        history.add(3, 9);    // loss
+        history.add(20, 1);   // win
+        history.add(4, 6);    // loss
+
+        assertEquals(5, history.size());
+        assertEquals(2, history.getFirstRetainedRound());
+        assertEquals(3, history.getRetainedRounds());
+        assertEquals(27, history.getWindowOwnSum());
+        assertEquals(16, history.getWindowEnemySum());
+        assertEquals(44, history.getOwnSum());
+        assertEquals(2, history.getWins());
+        assertEquals(2, history.getLosses());
+        assertEquals(20, history.getOwnBid(3));
+        assertEquals(6, history.getLastEnemyBid());
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getOwnBid(1));
+
+        List<BidsStatistic> list = history.asList();
+        assertEquals(3, list.size());
+        assertEquals(3, list.get(0).getOwnBid());
+    }
+
+    @Test
+    void testWindowMustHoldARound() {
+        assertThrows(IllegalArgumentException.class, () -> new BidHistory(0));
+    }
+}
@@ -0,0 +1,20 @@
+package bot;
+
+import optimax.energy.de.bot.Bot;
+
+/**
+ * Test bot that bids the same MU every round, capped by its budget, and 0 once its cash is gone.
+ */
+public class FixedBidBot extends Bot {
+    private final int fixedBid;
+
+    public FixedBidBot(String name, int fixedBid) {
+        super(name);
+        this.fixedBid = fixedBid;
+    }
+
+    @Override
+    public int placeBid() {
+        return hasCash() ? Math.min(fixedBid, budget) : 0;
+    }
+}
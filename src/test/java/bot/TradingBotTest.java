@@ -1,6 +1,7 @@
 package bot;
 
 import optimax.energy.de.bot.TradingBot;
+import optimax.energy.de.strategy.StrategyBandit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -143,4 +144,72 @@ class TradingBotTest {
 
         assertEquals("MyBot", namedBot.getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testBanditModeLearnsAcrossAuctions() {
+        StrategyBandit bandit = new StrategyBandit(3);
+
+        for (int auction = 0; auction < 2; auction++) {
+            TradingBot bot = new TradingBot("Bandit");
+            bot.setBandit(bandit);
+            bot.init(0, 1000);
+            bot.setAmountOfQU(400);
+            for (int round = 0; round < 200; round++) {
+                int bid = bot.placeBid();
+                bot.decreaseBudget(bid);
+                bot.increaseQuantity(bid > 0 ? 2 : 1);
+                bot.bids(bid, 0); // The opponent never bids
+            }
+        }
+
+        long pulls = bandit.getPulls(0) + bandit.getPulls(1) + bandit.getPulls(2);
+        assertEquals(400, pulls, "Every round of both auctions should reward one arm");
+        // SteadyStrategy wins the free lots with the smallest bids
+        assertTrue(bandit.getMeanReward(1) > bandit.getMeanReward(2));
+        assertTrue(bandit.getPulls(1) > bandit.getPulls(0));
+    }
+
+    @Test
+    void testBanditPenalizesMoneyLostOnOverbidding() {
+        StrategyBandit bandit = new StrategyBandit(3);
+        TradingBot bot = new TradingBot("Bandit");
+        bot.setBandit(bandit);
+        bot.init(0, 1000);
+        bot.setAmountOfQU(100); // 10 MU per QU on average
+
+        // The first pull plays the random arm, which always bids something; the opponent bids more
+        int lost = bot.placeBid();
+        bot.decreaseBudget(lost);
+        bot.bids(lost, lost + 1);
+        // The opponent of the next arm bids nothing
+        int next = bot.placeBid();
+        bot.increaseQuantity(next > 0 ? 2 : 1);
+        bot.bids(next, 0);
+
+        assertTrue(lost > 0);
+        assertEquals(1 / (1 + Math.exp(lost / 10.0)), bandit.getMeanReward(0), 1e-9);
+        assertTrue(bandit.getMeanReward(0) < 0.5, "A lost bid must cost reward");
+        assertTrue(bandit.getMeanReward(1) > bandit.getMeanReward(0));
+    }
+
+    @Test
+    void testBanditRewardsTheQuantityActuallyCredited() {
+        StrategyBandit bandit = new StrategyBandit(3);
+        TradingBot bot = new TradingBot("Bandit");
+        bot.setBandit(bandit);
+        bot.init(0, 1000);
+        bot.setAmountOfQU(100);
+
+        // A three-way tie at the top: the lot's 2 QU go to the other two bots
+        int bid = bot.placeBid();
+        bot.decreaseBudget(bid);
+        bot.bids(bid, bid);
+
+        assertEquals(1 / (1 + Math.exp(bid / 10.0)), bandit.getMeanReward(0), 1e-9);
+    }
+
+    @Test
+    void testBanditNeedsThreeArms() {
+        assertThrows(IllegalArgumentException.class, () -> tradingBot.setBandit(new StrategyBandit(2)));
+    }
+}
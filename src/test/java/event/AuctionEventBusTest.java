@@ -0,0 +1,125 @@
+package event;
+
+import bot.FixedBidBot;
+import optimax.energy.de.event.AuctionEvent;
+import optimax.energy.de.event.AuctionEventBus;
+import optimax.energy.de.event.AuctionEventListener;
+import optimax.energy.de.event.AuctionEventType;
+import optimax.energy.de.simulation.Auction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionEventBusTest {
+
+    @Test
+    void testAuctionPublishesTypedEvents() {
+        AuctionEventBus bus = new AuctionEventBus(16);
+        List<AuctionEventType> types = new ArrayList<>();
+        List<String> winners = new ArrayList<>();
+        bus.addListener(event -> {
+            types.add(event.getType());
+            if (event.getType() == AuctionEventType.AUCTION_FINISHED) {
+                winners.add(event.getBidder());
+            }
+        });
+
+        FixedBidBot bot1 = new FixedBidBot("Bot1", 10);
+        FixedBidBot bot2 = new FixedBidBot("Bot2", 20);
+        bot1.init(0, 100);
+        bot2.init(0, 100);
+        Auction auction = new Auction(6, bot1, bot2);
+        auction.setEventBus(bus);
+
+        auction.start();
+        bus.flush();
+
+        // 3 rounds: start, two bids and a winner each, then the final result
+        assertEquals(3 * 4 + 1, types.size());
+        assertEquals(3, types.stream().filter(t -> t == AuctionEventType.ROUND_STARTED).count());
+        assertEquals(6, types.stream().filter(t -> t == AuctionEventType.BID_PLACED).count());
+        assertEquals(3, types.stream().filter(t -> t == AuctionEventType.LOT_WON).count());
+        assertEquals(List.of("Bot2"), winners);
+    }
+
+    @Test
+    void testPublishWithoutListenerIsIgnored() {
+        AuctionEventBus bus = new AuctionEventBus(4);
+
+        for (int i = 0; i < 100; i++) {
+            bus.publish(AuctionEventType.BID_PLACED, 1, i, "Bot", i, 0, 0);
+        }
+        bus.flush();
+
+        assertFalse(bus.isEnabled());
+    }
+
+    @Test
+    void testConcurrentProducersDeliverEveryEventOnce() throws InterruptedException {
+        AuctionEventBus bus = new AuctionEventBus(8);
+        AtomicInteger received = new AtomicInteger();
+        long[] roundSum = new long[1];
+        bus.addListener((AuctionEvent event) -> {
+            received.incrementAndGet();
+            roundSum[0] += event.getRound();
+        });
+
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 1; i <= 1000; i++) {
+                    bus.publish(AuctionEventType.ROUND_STARTED, 1, i, null, 0, 0, 0);
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        bus.flush();
+
+        assertEquals(4000, received.get());
+        assertEquals(4L * 1000 * 1001 / 2, roundSum[0]);
+    }
+
+    @Test
+    void testConsumerStopsWhenLastListenerIsRemoved() throws InterruptedException {
+        AuctionEventBus bus = new AuctionEventBus(16);
+        Thread[] consumer = new Thread[1];
+        AuctionEventListener listener = event -> consumer[0] = Thread.currentThread();
+        bus.addListener(listener);
+        bus.publish(AuctionEventType.ROUND_STARTED, 1, 1, null, 0, 0, 0);
+        bus.flush();
+
+        bus.removeListener(listener);
+        consumer[0].join(5000);
+
+        assertFalse(consumer[0].isAlive());
+        assertFalse(bus.isEnabled());
+    }
+
+    @Test
+    void testCloseDeliversPublishedEventsAndStopsTheBus() throws InterruptedException {
+        AuctionEventBus bus = new AuctionEventBus(16);
+        AtomicInteger received = new AtomicInteger();
+        Thread[] consumer = new Thread[1];
+        bus.addListener(event -> {
+            consumer[0] = Thread.currentThread();
+            received.incrementAndGet();
+        });
+        for (int i = 1; i <= 10; i++) {
+            bus.publish(AuctionEventType.ROUND_STARTED, 1, i, null, 0, 0, 0);
+        }
+
+        bus.close();
+
+        assertEquals(10, received.get());
+        assertFalse(consumer[0].isAlive());
+        assertThrows(IllegalStateException.class, () -> bus.addListener(event -> { }));
+    }
+}
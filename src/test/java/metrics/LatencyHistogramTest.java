@@ -0,0 +1,92 @@
+package metrics;
+
+import optimax.energy.de.bot.Bot;
+import optimax.energy.de.bot.GrokBot;
+import optimax.energy.de.bot.StrategyBot;
+import optimax.energy.de.metrics.HistogramSnapshot;
+import optimax.energy.de.metrics.LatencyHistogram;
+import optimax.energy.de.metrics.MetricsRegistry;
+import optimax.energy.de.simulation.Auction;
+import optimax.energy.de.strategy.GrokStrategy;
+import optimax.energy.de.strategy.SteadyStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 0; value < 16; value++) {
+            histogram.record(value);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(16, snapshot.getCount());
+        assertEquals(7, snapshot.getValueAtPercentile(50));
+        assertEquals(15, snapshot.getMax());
+        assertEquals(1, snapshot.getCountAt(3));
+    }
+
+    @Test
+    void testPercentilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.getCount());
+        assertEquals(50_000_500.0, snapshot.getMean(), 1e-6);
+        assertEquals(50_000_000, snapshot.getValueAtPercentile(50), 50_000_000 / 16.0);
+        assertEquals(99_000_000, snapshot.getValueAtPercentile(99), 99_000_000 / 16.0);
+        assertEquals(100_000_000, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testLargeAndNegativeValuesAreRecorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(Long.MAX_VALUE, snapshot.getMax());
+        assertEquals(1, snapshot.getCountAt(0));
+        assertEquals(Long.MAX_VALUE, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testConcurrentRecordingLosesNothing() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.range(0, 400_000).parallel().forEach(i -> histogram.record(i % 5000));
+
+        assertEquals(400_000, histogram.snapshot().getCount());
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+    }
+
+    @Test
+    void testAuctionRecordsBidsPerBotAndPerStrategy() {
+        Bot grok = new GrokBot("Grok");
+        Bot steady = new StrategyBot("Steady", new SteadyStrategy());
+        grok.init(0, 1000);
+        steady.init(0, 1000);
+        Auction auction = new Auction(20);
+        auction.addParticipant(grok, steady);
+        MetricsRegistry metrics = new MetricsRegistry();
+        auction.setMetrics(metrics);
+
+        auction.start();
+
+        Map<String, HistogramSnapshot> snapshot = metrics.snapshot();
+        assertEquals(10, snapshot.get("bot.Grok.placeBid").getCount());
+        assertEquals(10, snapshot.get("bot.Steady.placeBid").getCount());
+        assertEquals(10, snapshot.get("strategy." + GrokStrategy.class.getSimpleName() + ".placeBid").getCount());
+        assertEquals(10, snapshot.get(MetricsRegistry.ROUND).getCount());
+        assertTrue(metrics.report().contains("bot.Grok.placeBid count=10"));
+    }
+}
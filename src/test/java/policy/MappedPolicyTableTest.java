@@ -0,0 +1,89 @@
+package policy;
+
+import optimax.energy.de.policy.MappedPolicyTable;
+import optimax.energy.de.policy.PolicyEncoding;
+import optimax.energy.de.policy.PolicySolver;
+import optimax.energy.de.policy.PolicyTable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedPolicyTableTest {
+
+    @Test
+    void testSolvedFileMatchesHeapTable() throws IOException {
+        Path file = Files.createTempFile("policy", ".table");
+        PolicySolver solver = new PolicySolver(8, 30, 1);
+        try (MappedPolicyTable mapped = solver.solve(file, PolicyEncoding.SHORT)) {
+            PolicyTable heap = solver.solve();
+
+            assertEquals(heap.size(), mapped.size());
+            assertEquals(heap.getLots(), mapped.getLots());
+            for (int lotsLeft = 1; lotsLeft <= heap.getLots(); lotsLeft++) {
+                for (int own = 0; own <= 30; own += 3) {
+                    for (int opp = 0; opp <= 30; opp += 5) {
+                        for (int quDiff = -10; quDiff <= 10; quDiff += 2) {
+                            assertEquals(heap.getBid(lotsLeft, own, opp, quDiff),
+                                    mapped.getBid(lotsLeft, own, opp, quDiff));
+                        }
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testQuantizedBidsNeverExceedExactBids() throws IOException {
+        Path file = Files.createTempFile("policy", ".table");
+        PolicyTable heap = new PolicySolver(4, 600, 1).solve();
+        try {
+            MappedPolicyTable.write(file, heap, PolicyEncoding.BYTE);
+            try (MappedPolicyTable mapped = MappedPolicyTable.open(file)) {
+                assertEquals(PolicyEncoding.BYTE, mapped.getEncoding());
+                assertEquals(heap.size(), Files.size(file) - 64);
+                for (int own = 0; own <= 600; own += 37) {
+                    int exact = heap.getBid(2, own, 400, 0);
+                    int quantized = mapped.getBid(2, own, 400, 0);
+                    assertTrue(quantized <= exact && quantized > exact - 3,
+                            "Quantized bid " + quantized + " should be just below " + exact);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testIncompleteFileIsRejected() throws IOException {
+        Path file = Files.createTempFile("policy", ".table");
+        try {
+            Files.write(file, new byte[64]);
+            assertThrows(IOException.class, () -> MappedPolicyTable.open(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testFileOfFailedSolveIsRejected() throws IOException {
+        Path file = Files.createTempFile("policy", ".table");
+        PolicySolver solver = new PolicySolver(10, 30, 1, (lotsLeft, ownCash, opponentCash, quDiff) -> {
+            if (lotsLeft == 4) {
+                throw new IllegalStateException("Model failed");
+            }
+            return ownCash / lotsLeft;
+        });
+        try {
+            assertThrows(IllegalStateException.class, () -> solver.solve(file, PolicyEncoding.SHORT));
+            assertThrows(IOException.class, () -> MappedPolicyTable.open(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
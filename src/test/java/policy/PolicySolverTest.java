@@ -0,0 +1,90 @@
+package policy;
+
+import optimax.energy.de.bot.RandomBot;
+import optimax.energy.de.bot.StrategyBot;
+import optimax.energy.de.policy.PolicySolver;
+import optimax.energy.de.policy.PolicyTable;
+import optimax.energy.de.simulation.Auction;
+import optimax.energy.de.strategy.PolicyTableStrategy;
+import optimax.energy.de.strategy.SteadyStrategy;
+import optimax.energy.de.tournament.Tournament;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for PolicySolver and PolicyTableStrategy.
+ */
+class PolicySolverTest {
+
+    @Test
+    void testLastLotWithEqualCashIsMatchedWithEverything() {
+        PolicyTable table = PolicySolver.maximin(2, 10, 1).solve();
+
+        // Anything less than 10 MU can be outbid; 10 MU secures at least a draw
+        assertEquals(10, table.getBid(1, 10, 10, 0));
+    }
+
+    @Test
+    void testLastLotAgainstPoorerOpponentIsOutbid() {
+        PolicyTable table = PolicySolver.maximin(2, 10, 1).solve();
+
+        // Matching the opponent's 9 MU already wins on cash; one more MU also wins the lot
+        assertEquals(10, table.getBid(1, 10, 9, 0));
+    }
+
+    @Test
+    void testDecidedAuctionStillCompetesForLots() {
+        PolicyTable table = PolicySolver.maximin(6, 20, 1).solve();
+
+        // The win is certain either way, so the bid only plays for a larger final lead
+        assertEquals(20, table.getBid(2, 20, 20, 6));
+        assertEquals(10, table.getBid(1, 10, 10, 2));
+        assertEquals(0, table.getBid(0, 10, 10, 0));
+    }
+
+    @Test
+    void testCashStepKeepsBidsWithinBudget() {
+        PolicyTable table = new PolicySolver(6, 100, 7).solve();
+
+        for (int own = 0; own <= 100; own++) {
+            int bid = table.getBid(3, own, 50, 0);
+            assertTrue(bid >= 0 && bid <= own, "Bid " + bid + " with " + own + " MU");
+            assertEquals(0, bid % 7);
+        }
+    }
+
+    @Test
+    void testDefaultOpponentTableBeatsRandomBot() {
+        PolicyTable table = new PolicySolver(40, 200, 1).solve();
+
+        int wins = 0;
+        for (int match = 0; match < 100; match++) {
+            StrategyBot solved = new StrategyBot("Solved", new PolicyTableStrategy(table));
+            if (Tournament.playMatch(solved, new RandomBot("Random"), 40, 200, match, match) > 0) {
+                wins++;
+            }
+        }
+
+        assertTrue(wins > 90, "Solved table won only " + wins + " of 100 matches against RandomBot");
+    }
+
+    @Test
+    void testBestResponseBeatsModelledOpponent() {
+        int quantity = 10;
+        int cash = 100;
+        PolicyTable table = new PolicySolver(quantity, cash, 1,
+                (lotsLeft, ownCash, opponentCash, quDiff) -> Math.min(ownCash / (quantity + 1) * 2, ownCash))
+                .solve();
+
+        StrategyBot solved = new StrategyBot("Solved", new PolicyTableStrategy(table));
+        StrategyBot steady = new StrategyBot("Steady", new SteadyStrategy());
+        solved.init(0, cash);
+        steady.init(0, cash);
+        new Auction(quantity, solved, steady).start();
+
+        assertTrue(solved.getQuantity() > steady.getQuantity()
+                        || (solved.getQuantity() == steady.getQuantity() && solved.getBudget() > steady.getBudget()),
+                "Best response should beat the opponent it was solved against");
+    }
+}
@@ -0,0 +1,173 @@
+package server;
+
+import bot.FixedBidBot;
+import optimax.energy.de.server.AuctionClient;
+import optimax.energy.de.server.AuctionServer;
+import optimax.energy.de.server.ClientResult;
+import optimax.energy.de.server.Protocol;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionServerTest {
+
+    private static final InetSocketAddress LOOPBACK = new InetSocketAddress("127.0.0.1", 0);
+
+    @Test
+    void testTwoRemoteBotsPlayAnAuction() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try (AuctionServer server = new AuctionServer(10, 100, 2)) {
+            InetSocketAddress address = server.start(LOOPBACK);
+            FixedBidBot high = new FixedBidBot("High", 20);
+            FixedBidBot low = new FixedBidBot("Low", 10);
+
+            Future<ClientResult> highResult = clients.submit(() -> new AuctionClient("High", high).play(address));
+            Future<ClientResult> lowResult = clients.submit(() -> new AuctionClient("Low", low).play(address));
+
+            ClientResult winner = highResult.get(10, TimeUnit.SECONDS);
+            ClientResult loser = lowResult.get(10, TimeUnit.SECONDS);
+            assertTrue(winner.isWinner());
+            assertFalse(loser.isWinner());
+            assertEquals(10, winner.getQuantity());
+            assertEquals(0, winner.getBudget());
+            assertEquals(50, loser.getBudget());
+            assertEquals(5, high.getBidHistory().size(), "Every lot should be reported to the client");
+            assertEquals(1, server.getCompletedAuctions());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void testManyConcurrentAuctionsOnOneServerThread() throws Exception {
+        int auctions = 100;
+        ExecutorService clients = Executors.newFixedThreadPool(2 * auctions);
+        try (AuctionServer server = new AuctionServer(20, 1000, 2)) {
+            InetSocketAddress address = server.start(LOOPBACK);
+            List<Future<ClientResult>> results = new ArrayList<>();
+            for (int i = 0; i < 2 * auctions; i++) {
+                int bid = 5 + i % 7;
+                results.add(clients.submit(() -> new AuctionClient("Bot", new FixedBidBot("Bot", bid)).play(address)));
+            }
+
+            int winners = 0;
+            int draws = 0;
+            int quantity = 0;
+            for (Future<ClientResult> result : results) {
+                ClientResult standing = result.get(30, TimeUnit.SECONDS);
+                winners += standing.isWinner() ? 1 : 0;
+                draws += standing.isDraw() ? 1 : 0;
+                quantity += standing.getQuantity();
+            }
+            // Every auction has one winner, or two bots sharing a draw
+            assertEquals(auctions, winners + draws / 2);
+            assertEquals(20 * auctions, quantity);
+            assertEquals(auctions, server.getCompletedAuctions());
+            assertEquals(0, server.getActiveAuctions());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void testEqualBotsDraw() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try (AuctionServer server = new AuctionServer(10, 100, 2)) {
+            InetSocketAddress address = server.start(LOOPBACK);
+
+            Future<ClientResult> first = clients.submit(() -> new AuctionClient("A", new FixedBidBot("A", 10)).play(address));
+            Future<ClientResult> second = clients.submit(() -> new AuctionClient("B", new FixedBidBot("B", 10)).play(address));
+
+            for (ClientResult result : List.of(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS))) {
+                assertTrue(result.isDraw());
+                assertFalse(result.isWinner());
+                assertEquals(5, result.getQuantity());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailingHouseBotAbortsTheAuction() throws Exception {
+        try (AuctionServer server = new AuctionServer(10, 100, 1)) {
+            server.addHouseBot(() -> new FixedBidBot("Broken", 10) {
+                @Override
+                public int placeBid() {
+                    throw new IllegalStateException("House bot failed");
+                }
+            });
+            InetSocketAddress address = server.start(LOOPBACK);
+
+            AuctionClient client = new AuctionClient("Remote", new FixedBidBot("Remote", 16));
+            assertThrows(IOException.class, () -> client.play(address));
+
+            for (int attempt = 0; attempt < 100 && server.getActiveAuctions() > 0; attempt++) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, server.getActiveAuctions());
+            assertEquals(0, server.getCompletedAuctions());
+        }
+    }
+
+    @Test
+    void testRemoteBotAgainstHouseBot() throws Exception {
+        try (AuctionServer server = new AuctionServer(10, 100, 1)) {
+            server.addHouseBot(() -> new FixedBidBot("House", 15));
+            InetSocketAddress address = server.start(LOOPBACK);
+
+            ClientResult result = new AuctionClient("Remote", new FixedBidBot("Remote", 16)).play(address);
+
+            assertTrue(result.isWinner());
+            assertEquals(10, result.getQuantity());
+        }
+    }
+
+    @Test
+    void testDisconnectedBotStopsBidding() throws Exception {
+        ExecutorService clients = Executors.newSingleThreadExecutor();
+        try (AuctionServer server = new AuctionServer(10, 100, 2)) {
+            InetSocketAddress address = server.start(LOOPBACK);
+            Future<ClientResult> stayer = clients.submit(() -> new AuctionClient("Stayer", new FixedBidBot("Stayer", 1)).play(address));
+
+            try (Socket quitter = new Socket()) {
+                quitter.connect(address);
+                DataOutputStream out = new DataOutputStream(quitter.getOutputStream());
+                out.writeShort(1 + Short.BYTES + 4);
+                out.writeByte(Protocol.HELLO);
+                out.writeShort(4);
+                out.writeBytes("Quit");
+                out.flush();
+                // Leave once the auction has started
+                DataInputStream in = new DataInputStream(quitter.getInputStream());
+                in.readUnsignedShort();
+                assertEquals(Protocol.INIT, in.readByte());
+            }
+
+            ClientResult result = stayer.get(10, TimeUnit.SECONDS);
+            assertTrue(result.isWinner());
+            assertEquals(10, result.getQuantity());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRejectsAuctionWithSingleBot() {
+        AuctionServer server = new AuctionServer(10, 100, 1);
+
+        assertThrows(IllegalStateException.class, () -> server.start(LOOPBACK));
+    }
+}
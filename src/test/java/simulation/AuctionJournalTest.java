@@ -0,0 +1,60 @@
+package simulation;
+
+import bot.FixedBidBot;
+import optimax.energy.de.simulation.Auction;
+import optimax.energy.de.simulation.JournalReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionJournalTest {
+
+    @Test
+    void testEveryRoundIsJournaled() throws IOException {
+        Path file = Files.createTempFile("auction", ".journal");
+        try {
+            FixedBidBot bot1 = new FixedBidBot("Bot1", 10);
+            FixedBidBot bot2 = new FixedBidBot("Bot2", 20);
+            bot1.init(0, 100);
+            bot2.init(0, 100);
+
+            Auction auction = new Auction(6, bot1, bot2);
+            auction.setJournalFile(file);
+            auction.start();
+
+            try (JournalReader reader = new JournalReader(file)) {
+                assertEquals(List.of("Bot1", "Bot2"), reader.getParticipants());
+                assertEquals(3, reader.getRecordCount());
+                assertEquals(6, reader.getAuctionedQuantity());
+                for (int record = 0; record < 3; record++) {
+                    assertEquals(record + 1, reader.getRound(record));
+                    assertEquals(10, reader.getBid(record, 0));
+                    assertEquals(20, reader.getBid(record, 1));
+                    assertEquals(0, reader.getQuantity(record, 0));
+                    assertEquals(2 * (record + 1), reader.getQuantity(record, 1));
+                    assertEquals(100 - 10 * (record + 1), reader.getBudget(record, 0));
+                    assertEquals(100 - 20 * (record + 1), reader.getBudget(record, 1));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testReaderRejectsForeignFiles() throws IOException {
+        Path file = Files.createTempFile("auction", ".journal");
+        try {
+            Files.writeString(file, "this is not a journal, just some text");
+
+            assertThrows(IOException.class, () -> new JournalReader(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
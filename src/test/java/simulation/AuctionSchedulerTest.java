@@ -0,0 +1,160 @@
+package simulation;
+
+import optimax.energy.de.bot.Bot;
+import optimax.energy.de.bot.RandomBot;
+import optimax.energy.de.bot.TradingBot;
+import optimax.energy.de.simulation.Auction;
+import optimax.energy.de.simulation.AuctionScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionSchedulerTest {
+
+    /** Bids a fixed amount, logs every call and waits for the gate before its first bid. */
+    private static class GatedBot extends Bot {
+        private final int fixedBid;
+        private final List<String> log;
+        private final CountDownLatch gate;
+
+        GatedBot(String name, int fixedBid, List<String> log, CountDownLatch gate) {
+            super(name);
+            this.fixedBid = fixedBid;
+            this.log = log;
+            this.gate = gate;
+            init(0, 100);
+        }
+
+        @Override
+        public int placeBid() {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.add(name);
+            return hasCash() ? fixedBid : 0;
+        }
+    }
+
+    private static Auction auction(int quantity, Bot... bots) {
+        Auction auction = new Auction(quantity);
+        auction.addParticipant(bots);
+        return auction;
+    }
+
+    @Test
+    void testRunsManyAuctionsOnFewThreads() {
+        try (AuctionScheduler scheduler = new AuctionScheduler(4, 10_000, 0)) {
+            List<Auction> auctions = new ArrayList<>();
+            List<CompletableFuture<Bot>> results = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                Bot trader = new TradingBot("Trader");
+                Bot random = new RandomBot("Random");
+                trader.init(0, 1000);
+                random.init(0, 1000);
+                Auction auction = auction(40, trader, random);
+                auction.setSeed(i);
+                auctions.add(auction);
+                results.add(scheduler.submit(auction));
+            }
+
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).join();
+
+            for (int i = 0; i < auctions.size(); i++) {
+                Auction auction = auctions.get(i);
+                assertEquals(0, auction.getQuantity());
+                assertTrue(auction.getParticipants().contains(results.get(i).join()));
+                int won = auction.getParticipants().stream().mapToInt(Bot::getQuantity).sum();
+                assertEquals(40, won);
+            }
+            assertEquals(2_000, scheduler.getCompletedAuctions());
+            assertEquals(0, scheduler.getActiveAuctions());
+        }
+    }
+
+    @Test
+    void testInterleavesTheLotsOfRunningAuctions() {
+        List<String> log = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch gate = new CountDownLatch(1);
+        try (AuctionScheduler scheduler = new AuctionScheduler(1, 2, 0)) {
+            CompletableFuture<Bot> first = scheduler.submit(auction(6,
+                    new GatedBot("A", 10, log, gate), new GatedBot("a", 5, log, gate)));
+            CompletableFuture<Bot> second = scheduler.submit(auction(6,
+                    new GatedBot("B", 10, log, gate), new GatedBot("b", 5, log, gate)));
+            gate.countDown();
+
+            assertEquals("A", first.join().getName());
+            assertEquals("B", second.join().getName());
+            assertEquals(List.of("A", "a", "B", "b", "A", "a", "B", "b", "A", "a", "B", "b"), log);
+        }
+    }
+
+    @Test
+    void testAdmitsUpToTheLimitsAndRejectsTheRest() throws Exception {
+        List<String> log = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch gate = new CountDownLatch(1);
+        try (AuctionScheduler scheduler = new AuctionScheduler(1, 1, 1)) {
+            CompletableFuture<Bot> running = scheduler.submit(auction(2,
+                    new GatedBot("A", 10, log, gate), new GatedBot("a", 5, log, gate)));
+            CompletableFuture<Bot> waiting = scheduler.submit(auction(2,
+                    new GatedBot("B", 10, log, gate), new GatedBot("b", 5, log, gate)));
+
+            assertEquals(1, scheduler.getActiveAuctions());
+            assertEquals(1, scheduler.getQueuedAuctions());
+            assertThrows(RejectedExecutionException.class, () -> scheduler.submit(auction(2,
+                    new GatedBot("C", 10, log, gate), new GatedBot("c", 5, log, gate))));
+
+            gate.countDown();
+            assertEquals("A", running.get(10, TimeUnit.SECONDS).getName());
+            assertEquals("B", waiting.get(10, TimeUnit.SECONDS).getName());
+            assertEquals(0, scheduler.getQueuedAuctions());
+        }
+    }
+
+    @Test
+    void testCancelledAuctionStopsBeforeItsNextLot() throws Exception {
+        List<String> log = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch gate = new CountDownLatch(1);
+        try (AuctionScheduler scheduler = new AuctionScheduler(1, 1, 1)) {
+            Auction cancelled = auction(40,
+                    new GatedBot("A", 1, log, gate), new GatedBot("a", 1, log, gate));
+            CompletableFuture<Bot> result = scheduler.submit(cancelled);
+            CompletableFuture<Bot> next = scheduler.submit(auction(2,
+                    new GatedBot("B", 10, log, gate), new GatedBot("b", 5, log, gate)));
+
+            result.cancel(false);
+            gate.countDown();
+
+            // The waiting auction gets the freed place
+            assertEquals("B", next.get(10, TimeUnit.SECONDS).getName());
+            assertTrue(cancelled.getQuantity() > 0);
+            assertTrue(result.isCancelled());
+        }
+    }
+
+    @Test
+    void testCloseCancelsUnfinishedAuctions() {
+        List<String> log = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch gate = new CountDownLatch(1);
+        AuctionScheduler scheduler = new AuctionScheduler(1, 1, 1);
+        scheduler.submit(auction(2, new GatedBot("A", 10, log, gate), new GatedBot("a", 5, log, gate)));
+        CompletableFuture<Bot> waiting = scheduler.submit(auction(2,
+                new GatedBot("B", 10, log, gate), new GatedBot("b", 5, log, gate)));
+
+        scheduler.close();
+        gate.countDown();
+
+        assertTrue(waiting.isCancelled());
+        assertThrows(RejectedExecutionException.class, () -> scheduler.submit(auction(2,
+                new GatedBot("C", 10, log, gate), new GatedBot("c", 5, log, gate))));
+    }
+}
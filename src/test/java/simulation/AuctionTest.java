@@ -4,6 +4,9 @@ import optimax.energy.de.bot.Bot;
 import optimax.energy.de.simulation.Auction;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -117,4 +120,115 @@ class AuctionTest {
         // Draw is not possible, Bot2 wins the auction.
         assertFalse(auction.isDrawByQuantity());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFastFinishStopsOnceLeaderIsOutOfReach() {
+        TestBot high = new TestBot("High", 10);
+        TestBot low = new TestBot("Low", 5);
+        high.init(0, 1000);
+        low.init(0, 1000);
+
+        Auction auction = new Auction(40);
+        auction.addParticipant(high, low);
+        auction.setFastFinish(true);
+        auction.start();
+
+        // After 11 of 20 lots, 22 QU beat 0 QU plus the 18 QU still for sale
+        assertEquals(22, high.getQuantity());
+        assertEquals(18, auction.getQuantity());
+        assertEquals(9, auction.getSkippedLots());
+        assertEquals(1000 - 11 * 10, high.getBudget());
+        assertTrue(auction.isDecided());
+    }
+
+    @Test
+    void testFastFinishReturnsLeaderWhenBudgetsAreEqual() {
+        TestBot low = new TestBot("Low", 5);
+        TestBot high = new TestBot("High", 10);
+        low.init(0, 1000);
+        high.init(0, 1010);
+
+        Auction auction = new Auction(6);
+        auction.addParticipant(low, high);
+        auction.setFastFinish(true);
+
+        auction.begin();
+        while (!auction.isFinished()) {
+            auction.playNextLot();
+        }
+        Bot winner = auction.finish();
+
+        // Decided after two lots, with both bots left at 990 MU
+        assertEquals(1, auction.getSkippedLots());
+        assertEquals(4, high.getQuantity());
+        assertEquals(low.getBudget(), high.getBudget());
+        assertFalse(auction.isDrawByQuantity());
+        assertSame(high, winner);
+    }
+
+    @Test
+    void testFastFinishPlaysEveryLotOfAnOpenAuction() {
+        TestBot first = new TestBot("First", 7);
+        TestBot second = new TestBot("Second", 7);
+        first.init(0, 1000);
+        second.init(0, 1000);
+
+        Auction auction = new Auction(40);
+        auction.addParticipant(first, second);
+        auction.setFastFinish(true);
+        auction.start();
+
+        assertEquals(20, first.getQuantity());
+        assertEquals(0, auction.getQuantity());
+        assertEquals(0, auction.getSkippedLots());
+    }
+
+    @Test
+    void testWithoutFastFinishEveryLotIsPlayed() {
+        TestBot high = new TestBot("High", 10);
+        TestBot low = new TestBot("Low", 5);
+        high.init(0, 1000);
+        low.init(0, 1000);
+
+        Auction auction = new Auction(40);
+        auction.addParticipant(high, low);
+        auction.start();
+
+        assertEquals(40, high.getQuantity());
+        assertEquals(0, auction.getSkippedLots());
+    }
+
+    @Test
+    void testFailedAuctionCancelsLateBidCalls() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Bot hung = new Bot("Hung") {
+            @Override
+            public int placeBid() {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return 0;
+            }
+        };
+        Bot failing = new Bot("Failing") {
+            @Override
+            public int placeBid() {
+                if (getBidHistory().size() == 2) {
+                    throw new IllegalStateException("broken bot");
+                }
+                return 1;
+            }
+        };
+        hung.init(0, 100);
+        failing.init(0, 100);
+
+        Auction auction = new Auction(40);
+        auction.addParticipant(hung, failing);
+        auction.setBidDeadline(20, TimeUnit.MILLISECONDS, 0);
+
+        assertThrows(IllegalStateException.class, auction::start);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "The late bid call keeps running");
+    }
+}
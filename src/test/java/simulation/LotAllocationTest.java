@@ -0,0 +1,97 @@
+package simulation;
+
+import optimax.energy.de.bot.Bot;
+import optimax.energy.de.event.AuctionEventBus;
+import optimax.energy.de.metrics.MetricsRegistry;
+import optimax.energy.de.simulation.Lot;
+import optimax.energy.de.strategy.SteadyStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the allocation-free hot path of the lot engine: playing a round must not
+ * allocate on the auction thread, with or without event listeners and latency metrics.
+ */
+class LotAllocationTest {
+
+    private static final int ROUNDS = 100_000;
+
+    /** Tolerance for allocations of the measurement itself. */
+    private static final long TOLERATED_BYTES = 1024;
+
+    static class SilentBot extends Bot {
+        private final int fixedBid;
+
+        SilentBot(String name, int fixedBid) {
+            super(name);
+            this.fixedBid = fixedBid;
+            init(0, Integer.MAX_VALUE);
+        }
+
+        @Override public int placeBid() {
+            return fixedBid;
+        }
+        @Override public void bids(int own, int other) {
+        }
+    }
+
+    /** A silent bot that reports a strategy, so that bids are also measured per strategy. */
+    static class SteadySilentBot extends SilentBot {
+        SteadySilentBot(String name, int fixedBid) {
+            super(name, fixedBid);
+            setStrategy(new SteadyStrategy());
+        }
+    }
+
+    @Test
+    void playRound_withoutListenersDoesNotAllocate() {
+        Lot lot = new Lot(List.of(new SilentBot("High", 2), new SilentBot("Low", 1), new SilentBot("Tie", 1)),
+                new AuctionEventBus(16), 1);
+
+        assertEquals(0, allocatedBytesPerRun(lot), TOLERATED_BYTES);
+    }
+
+    @Test
+    void playRound_withListenerDoesNotAllocateOnAuctionThread() {
+        AuctionEventBus bus = new AuctionEventBus(1024);
+        bus.addListener(event -> { });
+        Lot lot = new Lot(List.of(new SilentBot("A", 1), new SilentBot("B", 1)), bus, 1);
+
+        long allocated = allocatedBytesPerRun(lot);
+        bus.flush();
+
+        assertEquals(0, allocated, TOLERATED_BYTES);
+    }
+
+    @Test
+    void playRound_withMetricsDoesNotAllocate() {
+        Lot lot = new Lot(List.of(new SilentBot("A", 1), new SteadySilentBot("Steady", 2)),
+                new AuctionEventBus(16), 1);
+        MetricsRegistry metrics = new MetricsRegistry();
+        lot.setMetrics(metrics);
+
+        assertEquals(0, allocatedBytesPerRun(lot), TOLERATED_BYTES);
+        assertEquals(2L * ROUNDS, metrics.roundLatency().getCount());
+    }
+
+    /**
+     * Warms the lot up, then returns the bytes the current thread allocated while playing ROUNDS rounds.
+     */
+    private static long allocatedBytesPerRun(Lot lot) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < ROUNDS; i++) {
+            lot.playRound();
+        }
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < ROUNDS; i++) {
+            lot.playRound();
+        }
+        return threads.getThreadAllocatedBytes(thread) - before;
+    }
+}
@@ -5,7 +5,10 @@ import optimax.energy.de.simulation.*;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-;import java.util.List;
+;import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 
 class LotTest {
@@ -35,6 +38,29 @@ class LotTest {
         int getLastOther() { return lastOther; }
     }
 
+    /** Bids 20 MU once released, blocking every call until then. */
+    static class HungBot extends Bot {
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        HungBot(String name, int budget) {
+            super(name);
+            init(0, budget);
+        }
+
+        @Override public int placeBid() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 20;
+        }
+
+        void release() {
+            release.countDown();
+        }
+    }
+
     private FixedBidBot highBidder;   //  10 MU
     private FixedBidBot lowBidder;    //   5 MU
     private FixedBidBot drawBidder1;  //  3 MU
@@ -87,4 +113,153 @@ class LotTest {
         assertEquals(47, drawBidder1.getBudget());
         assertEquals(47, drawBidder2.getBudget());
     }
-}
\ No newline at end of file
+
+
+    @Test
+    void playRound_threeBiddersNotifiesEveryoneOfHighestCompetingBid() {
+        List<Bot> participants = List.of(lowBidder, highBidder, drawBidder1);
+        Lot lot = new Lot(participants);
+
+        lot.playRound();
+
+        assertEquals(2, highBidder.getQuantity());
+        assertEquals(0, lowBidder.getQuantity());
+        assertEquals(0, drawBidder1.getQuantity());
+        assertEquals(47, drawBidder1.getBudget());
+
+        // The winner sees the best of the losing bids, everybody else sees the winning bid
+        assertEquals( 5, highBidder.getLastOther());
+        assertEquals(10, lowBidder.getLastOther());
+        assertEquals( 3, drawBidder1.getLastOwn());
+        assertEquals(10, drawBidder1.getLastOther());
+    }
+
+    @Test
+    void playRound_notifiesOnlyAfterEveryBotIsSettled() {
+        int[] seen = new int[2];
+        Bot meddler = new FixedBidBot("Meddler", 5, 100) {
+            @Override public void bids(int slot, int[] roundBids, int highestOther) {
+                // Record what the later slot holds, then scribble over the bids of the round
+                seen[0] = highBidder.getBudget();
+                seen[1] = highBidder.getQuantity();
+                Arrays.fill(roundBids, 0);
+            }
+        };
+        Lot lot = new Lot(List.of(meddler, highBidder));
+
+        lot.playRound();
+
+        assertEquals(90, seen[0]);
+        assertEquals(2, seen[1]);
+        assertEquals(10, highBidder.getLastOwn());
+        assertEquals(5, highBidder.getLastOther());
+        assertEquals(5, lot.getBid(0));
+    }
+
+    @Test
+    void playRound_tieAtTopSplitsLotBetweenTiedBidders() {
+        FixedBidBot secondHigh = new FixedBidBot("High2", 5, 100);
+        Lot lot = new Lot(List.of(drawBidder1, lowBidder, secondHigh));
+
+        lot.playRound();
+
+        assertEquals(1, lowBidder.getQuantity());
+        assertEquals(1, secondHigh.getQuantity());
+        assertEquals(0, drawBidder1.getQuantity());
+        assertEquals(5, lowBidder.getLastOther());
+    }
+
+    @Test
+    void playRound_threeWayTieDistributesWholeLotOverRounds() {
+        FixedBidBot third = new FixedBidBot("C", 3, 50);
+        Lot lot = new Lot(List.of(drawBidder1, drawBidder2, third));
+
+        for (int round = 0; round < 3; round++) {
+            lot.playRound();
+        }
+
+        // 3 lots of 2 QU split three ways: nothing is lost and every seat ends up equal
+        assertEquals(2, drawBidder1.getQuantity());
+        assertEquals(2, drawBidder2.getQuantity());
+        assertEquals(2, third.getQuantity());
+    }
+
+    @Test
+    void playRound_deadlineKeepsBidsOfFastBots() {
+        Lot lot = new Lot(List.of(highBidder, lowBidder));
+        lot.setBidDeadline(1, TimeUnit.SECONDS, 0);
+
+        lot.playRound();
+
+        assertEquals(2, highBidder.getQuantity());
+        assertEquals(10, lot.getBid(0));
+        assertEquals(5, lot.getBid(1));
+        assertEquals(0, lot.getTimeouts(0));
+        assertEquals(0, lot.getTimeouts(1));
+    }
+
+    @Test
+    void playRound_hungBotBidsDefaultAfterDeadline() {
+        HungBot hung = new HungBot("Hung", 100);
+        Lot lot = new Lot(List.of(hung, lowBidder));
+        lot.setBidDeadline(50, TimeUnit.MILLISECONDS, 1);
+
+        long start = System.nanoTime();
+        lot.playRound();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsed < 5000, "round waited " + elapsed + " ms");
+        assertEquals(1, lot.getBid(0));
+        assertEquals(1, lot.getTimeouts(0));
+        assertEquals(0, lot.getTimeouts(1));
+        assertEquals(100, hung.getBudget(), "A bot is not charged while its late call runs");
+        assertEquals(2, lowBidder.getQuantity());
+        hung.release();
+    }
+
+    @Test
+    void playRound_heldBackRoundsAreAppliedOnceTheLateCallReturns() throws InterruptedException {
+        HungBot hung = new HungBot("Hung", 100);
+        Lot lot = new Lot(List.of(hung, lowBidder));
+        lot.setBidDeadline(50, TimeUnit.MILLISECONDS, 7);
+
+        lot.playRound();
+        lot.playRound();
+        assertEquals(100, hung.getBudget());
+        assertEquals(0, hung.getQuantity());
+        assertEquals(0, hung.getBidHistory().size());
+
+        hung.release();
+        for (int attempt = 0; attempt < 100 && lot.getBid(0) != 20; attempt++) {
+            Thread.sleep(20);
+            lot.playRound();
+        }
+
+        // Every round is charged, but only the last held back round is notified before the current one
+        int rounds = lot.getRound();
+        assertEquals(100 - 7 * (rounds - 1) - 20, hung.getBudget());
+        assertEquals(2 * rounds, hung.getQuantity());
+        assertEquals(2, hung.getBidHistory().size());
+        assertEquals(7, hung.getBidHistory().asList().get(0).getOwnBid());
+        assertEquals(20, hung.getBidHistory().asList().get(1).getOwnBid());
+    }
+
+    @Test
+    void playRound_botIsNotCalledAgainWhileItsLateBidRuns() throws InterruptedException {
+        HungBot hung = new HungBot("Hung", 100);
+        Lot lot = new Lot(List.of(hung, lowBidder));
+        lot.setBidDeadline(50, TimeUnit.MILLISECONDS, 0);
+
+        lot.playRound();
+        lot.playRound();
+        assertEquals(2, lot.getTimeouts(0));
+
+        // Once the late call has returned, the bot bids normally again
+        hung.release();
+        for (int attempt = 0; attempt < 100 && lot.getBid(0) != 20; attempt++) {
+            Thread.sleep(20);
+            lot.playRound();
+        }
+        assertEquals(20, lot.getBid(0));
+    }
+}
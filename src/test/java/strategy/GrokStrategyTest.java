@@ -0,0 +1,81 @@
+package strategy;
+
+import optimax.energy.de.bot.BidsStatistic;
+import optimax.energy.de.strategy.GrokStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for GrokStrategy class.
+ */
+class GrokStrategyTest {
+
+    private GrokStrategy strategy;
+    private List<BidsStatistic> history;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new GrokStrategy();
+        history = new ArrayList<>();
+    }
+
+    @Test
+    void testFirstBidWithoutHistory() {
+        // predicted opponent bid defaults to 1, so Grok bids 2
+        int result = strategy.decideStrategy(1000, history, 40);
+
+        assertEquals(2, result);
+    }
+
+    @Test
+    void testOutbidsLastOpponentBidByOne() {
+        history.add(new BidsStatistic(2, 30));
+
+        int result = strategy.decideStrategy(1000, history, 40);
+
+        assertEquals(31, result);
+    }
+
+    @Test
+    void testLastRoundWhenBehindBidsAggressively() {
+        // 19 of 20 rounds played, all lost: behind, so predicted + 2
+        for (int i = 0; i < 19; i++) {
+            history.add(new BidsStatistic(1, 10));
+        }
+
+        int result = strategy.decideStrategy(1000, history, 40);
+
+        assertEquals(12, result);
+    }
+
+    @Test
+    void testLastRoundWhenComfortablyAheadKeepsNormalBid() {
+        // 19 of 20 rounds played, all won: far ahead, so the usual last bid + 1
+        for (int i = 0; i < 19; i++) {
+            history.add(new BidsStatistic(20, 10));
+        }
+
+        int result = strategy.decideStrategy(1000, history, 40);
+
+        assertEquals(11, result);
+    }
+
+    @Test
+    void testGrowingHistoryMatchesFreshComputation() {
+        SplittableRandom random = new SplittableRandom(5);
+
+        for (int round = 0; round < 100; round++) {
+            int incremental = strategy.decideStrategy(5000, history, 200);
+            int fresh = new GrokStrategy().decideStrategy(5000, new ArrayList<>(history), 200);
+
+            assertEquals(fresh, incremental, "Incremental state should match a full recomputation");
+            history.add(new BidsStatistic(random.nextInt(60), random.nextInt(60)));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package strategy;
 
+import optimax.energy.de.bot.BidHistory;
 import optimax.energy.de.bot.BidsStatistic;
 import optimax.energy.de.strategy.MedianBasedStrategy;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -141,4 +143,37 @@ class MedianBasedStrategyTest {
 
         assertEquals(150, result, "Should calculate average correctly for two bids");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGrowingHistoryMatchesFreshComputation() {
+        BidHistory history = new BidHistory();
+        SplittableRandom random = new SplittableRandom(3);
+
+        for (int round = 0; round < 500; round++) {
+            history.add(0, random.nextInt(1000));
+
+            int incremental = strategy.decideStrategy(100000, history, 40);
+            int fresh = new MedianBasedStrategy().decideStrategy(100000, history.asList(), 40);
+
+            assertEquals(fresh, incremental, "Running median should match a full recomputation");
+        }
+    }
+
+    @Test
+    void testWindowedHistoryUsesMedianOfRetainedRounds() {
+        BidHistory history = new BidHistory(25);
+        SplittableRandom random = new SplittableRandom(5);
+
+        for (int round = 0; round < 500; round++) {
+            history.add(0, random.nextInt(1000));
+            if (round % 7 == 3 || (round > 200 && round < 260)) {
+                continue; // The strategy is not asked every round
+            }
+
+            int windowed = strategy.decideStrategy(100000, history, 40);
+            int fresh = new MedianBasedStrategy().decideStrategy(100000, history.asList(), 40);
+
+            assertEquals(fresh, windowed, "Sliding median should match the median of the window");
+        }
+    }
+}
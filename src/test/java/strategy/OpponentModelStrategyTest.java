@@ -0,0 +1,83 @@
+package strategy;
+
+import optimax.energy.de.bot.BidHistory;
+import optimax.energy.de.strategy.OpponentModelStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for OpponentModelStrategy class.
+ */
+class OpponentModelStrategyTest {
+
+    private OpponentModelStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new OpponentModelStrategy();
+    }
+
+    @Test
+    void testWithoutHistoryBidsAveragePrice() {
+        int bid = strategy.decideStrategy(1000, new BidHistory(), 100);
+
+        assertEquals(20, bid, "1000 MU over 50 lots should give 20 MU");
+    }
+
+    @Test
+    void testLearnsToJustOutbidConstantOpponent() {
+        BidHistory history = new BidHistory();
+        int budget = 1000;
+        for (int round = 0; round < 10; round++) {
+            int bid = strategy.decideStrategy(budget, history, 100);
+            budget -= bid;
+            history.add(bid, 10);
+        }
+
+        int bid = strategy.decideStrategy(budget, history, 100);
+
+        assertTrue(bid > 10 && bid < 20, "Expected a bid just above 10 but got " + bid);
+    }
+
+    @Test
+    void testSkipsOpponentThatIsNeverBeatenCheaply() {
+        BidHistory history = new BidHistory();
+        for (int round = 0; round < 10; round++) {
+            history.add(0, 90);
+        }
+
+        // 90 MU a lot is far above the 1000 / 40 MU this bot can afford per lot
+        assertEquals(0, strategy.decideStrategy(1000, history, 100));
+    }
+
+    @Test
+    void testIncrementalUpdatesMatchFreshModel() {
+        BidHistory history = new BidHistory();
+        SplittableRandom random = new SplittableRandom(11);
+        int budget = 5000;
+
+        for (int round = 0; round < 200; round++) {
+            int incremental = strategy.decideStrategy(budget, history, 400);
+            int fresh = new OpponentModelStrategy().decideStrategy(budget, history, 400);
+            assertEquals(fresh, incremental, "Incremental model should match one built from scratch");
+
+            budget -= incremental;
+            history.add(incremental, random.nextInt(30));
+        }
+    }
+
+    @Test
+    void testNeverExceedsBudget() {
+        BidHistory history = new BidHistory();
+        for (int round = 0; round < 20; round++) {
+            history.add(1, 2);
+        }
+
+        assertTrue(strategy.decideStrategy(3, history, 100) <= 3);
+        assertEquals(0, strategy.decideStrategy(0, history, 100));
+    }
+}
@@ -41,6 +41,17 @@ public class RandomStrategyTest {
         assertEquals(0, result, "Should return 0 when no budget remaining");
     }
 
+    @Test
+    void testSameSeedGivesSameBids() {
+        RandomStrategy first = new RandomStrategy(42);
+        RandomStrategy second = new RandomStrategy(7);
+        second.seed(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.decideStrategy(1000, history, 40), second.decideStrategy(1000, history, 40));
+        }
+    }
+
     @Test
     void testSmallBudget() {
         // remainingBudget=5, amountOfQU=10
@@ -0,0 +1,41 @@
+package strategy;
+
+import optimax.energy.de.strategy.StrategyBandit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit tests for StrategyBandit class.
+ */
+class StrategyBanditTest {
+
+    @Test
+    void testTriesEveryArmFirst() {
+        StrategyBandit bandit = new StrategyBandit(3);
+
+        for (int arm = 0; arm < 3; arm++) {
+            assertEquals(arm, bandit.select());
+            bandit.update(arm, 0.5);
+        }
+    }
+
+    @Test
+    void testConvergesOnBestArm() {
+        StrategyBandit bandit = new StrategyBandit(3);
+        double[] means = {0.2, 0.8, 0.5};
+
+        for (int round = 0; round < 2000; round++) {
+            int arm = bandit.select();
+            bandit.update(arm, means[arm]);
+        }
+
+        assertTrue(bandit.getPulls(1) > 1800, "Best arm pulled only " + bandit.getPulls(1) + " times");
+        assertEquals(0.8, bandit.getMeanReward(1), 1e-9);
+    }
+
+    @Test
+    void testRejectsEmptyBandit() {
+        assertThrows(IllegalArgumentException.class, () -> new StrategyBandit(0));
+    }
+}
@@ -0,0 +1,112 @@
+package tournament;
+
+import optimax.energy.de.tournament.ConfidenceInterval;
+import optimax.energy.de.tournament.PairingStats;
+import optimax.energy.de.tournament.RunningStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PairingStatsTest {
+
+    @Test
+    void testRunningStatsMatchTwoPassComputation() {
+        double[] values = new double[10_000];
+        SplittableRandom random = new SplittableRandom(3);
+        RunningStats stats = new RunningStats();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1e9 + random.nextDouble() * 10;
+            stats.add(values[i]);
+        }
+
+        double mean = 0;
+        for (double value : values) {
+            mean += value;
+        }
+        mean /= values.length;
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+
+        assertEquals(values.length, stats.getCount());
+        assertEquals(mean, stats.getMean(), 1e-4);
+        assertEquals(squares / (values.length - 1), stats.getVariance(), 1e-6);
+    }
+
+    @Test
+    void testMergedStatsEqualSequentialStats() {
+        RunningStats all = new RunningStats();
+        RunningStats left = new RunningStats();
+        RunningStats right = new RunningStats();
+        for (int i = 0; i < 1000; i++) {
+            double value = (i * 37) % 101;
+            all.add(value);
+            (i < 300 ? left : right).add(value);
+        }
+
+        left.merge(right).merge(new RunningStats());
+
+        assertEquals(all.getCount(), left.getCount());
+        assertEquals(all.getMean(), left.getMean(), 1e-9);
+        assertEquals(all.getVariance(), left.getVariance(), 1e-9);
+        assertEquals(all.getMean(), new RunningStats().merge(all).getMean(), 0.0);
+    }
+
+    @Test
+    void testWilsonIntervalMatchesKnownValues() {
+        PairingStats stats = new PairingStats();
+        for (int i = 0; i < 100; i++) {
+            stats.record(i < 50 ? 1 : -1, 0, 0, 0, 0);
+        }
+
+        ConfidenceInterval interval = stats.getWinRateInterval(ConfidenceInterval.Z_95);
+        assertEquals(0.4038, interval.getLower(), 1e-4);
+        assertEquals(0.5962, interval.getUpper(), 1e-4);
+    }
+
+    @Test
+    void testWilsonIntervalStaysInsideUnitRangeForOneSidedPairings() {
+        PairingStats stats = new PairingStats();
+        for (int i = 0; i < 20; i++) {
+            stats.record(1, 0, 0, 0, 0);
+        }
+
+        ConfidenceInterval interval = stats.getWinRateInterval(ConfidenceInterval.Z_95);
+        assertEquals(1.0, interval.getUpper(), 1e-12);
+        assertEquals(0.8389, interval.getLower(), 1e-4);
+        assertEquals(new ConfidenceInterval(0, 1).getWidth(),
+                new PairingStats().getWinRateInterval(ConfidenceInterval.Z_95).getWidth());
+    }
+
+    @Test
+    void testMirroredSwapsSides() {
+        PairingStats stats = new PairingStats();
+        stats.record(1, 30, 10, 5, 0);
+        stats.record(0, 20, 20, 7, 7);
+        stats.record(-1, 10, 30, 0, 9);
+
+        PairingStats mirror = stats.mirrored();
+
+        assertEquals(stats.getLosses(), mirror.getWins());
+        assertEquals(stats.getDraws(), mirror.getDraws());
+        assertEquals(stats.getOpponentQuantity().getMean(), mirror.getQuantity().getMean());
+        assertEquals(stats.getBudget().getMean(), mirror.getOpponentBudget().getMean());
+        assertEquals(4.0, stats.getBudget().getMean(), 1e-12);
+    }
+
+    @Test
+    void testReadersGetCopies() {
+        PairingStats stats = new PairingStats();
+        stats.record(1, 30, 10, 5, 0);
+
+        stats.getQuantity().add(1000);
+        stats.copy().record(-1, 0, 0, 0, 0);
+
+        assertEquals(1, stats.getMatches());
+        assertEquals(1, stats.getQuantity().getCount());
+        assertEquals(30.0, stats.getQuantity().getMean(), 1e-12);
+    }
+}
@@ -0,0 +1,72 @@
+package tournament;
+
+import optimax.energy.de.tournament.IntervalStoppingRule;
+import optimax.energy.de.tournament.PairingStats;
+import optimax.energy.de.tournament.SprtStoppingRule;
+import optimax.energy.de.tournament.StoppingRule;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StoppingRuleTest {
+
+    private static PairingStats results(int wins, int draws, int losses) {
+        PairingStats stats = new PairingStats();
+        for (int i = 0; i < wins; i++) {
+            stats.record(1, 0, 0, 0, 0);
+        }
+        for (int i = 0; i < draws; i++) {
+            stats.record(0, 0, 0, 0, 0);
+        }
+        for (int i = 0; i < losses; i++) {
+            stats.record(-1, 0, 0, 0, 0);
+        }
+        return stats;
+    }
+
+    @Test
+    void testSprtSettlesOneSidedPairingsQuickly() {
+        SprtStoppingRule rule = new SprtStoppingRule();
+
+        // ln(0.95 / 0.05) / ln(0.55 / 0.45) = 14.7 straight results are needed
+        assertFalse(rule.isSettled(results(14, 0, 0)));
+        assertTrue(rule.isSettled(results(15, 0, 0)));
+        assertTrue(rule.isSettled(results(0, 0, 15)));
+    }
+
+    @Test
+    void testSprtKeepsEvenPairingsOpenAndIgnoresDraws() {
+        SprtStoppingRule rule = new SprtStoppingRule();
+
+        assertFalse(rule.isSettled(results(500, 0, 500)));
+        assertFalse(rule.isSettled(results(10, 1000, 0)));
+        assertEquals(0.0, rule.logLikelihoodRatio(results(7, 3, 7)), 1e-12);
+    }
+
+    @Test
+    void testIntervalRuleWaitsForMinimumAndWidth() {
+        assertFalse(new IntervalStoppingRule(1.0, 1.96, 30).isSettled(results(29, 0, 0)));
+        assertTrue(new IntervalStoppingRule(1.0, 1.96, 30).isSettled(results(30, 0, 0)));
+
+        IntervalStoppingRule rule = new IntervalStoppingRule(0.1);
+        assertFalse(rule.isSettled(results(30, 0, 0)));
+        assertTrue(rule.isSettled(results(60, 0, 0)));
+        assertFalse(rule.isSettled(results(100, 0, 100)));
+    }
+
+    @Test
+    void testCombinedRuleSettlesWhenEitherDoes() {
+        StoppingRule rule = new SprtStoppingRule().or(new IntervalStoppingRule(0.1));
+
+        // All draws never move the SPRT, but the win rate interval narrows
+        assertTrue(rule.isSettled(results(0, 1000, 0)));
+        assertTrue(rule.isSettled(results(15, 0, 0)));
+        assertFalse(rule.isSettled(results(20, 0, 20)));
+    }
+
+    @Test
+    void testRejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new SprtStoppingRule(0.5, 0.05, 0.05));
+        assertThrows(IllegalArgumentException.class, () -> new IntervalStoppingRule(0));
+    }
+}
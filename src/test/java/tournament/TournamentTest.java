@@ -0,0 +1,203 @@
+package tournament;
+
+import bot.FixedBidBot;
+import optimax.energy.de.bot.GrokBot;
+import optimax.energy.de.bot.RandomBot;
+import optimax.energy.de.bot.StrategyBot;
+import optimax.energy.de.bot.TradingBot;
+import optimax.energy.de.strategy.SteadyStrategy;
+import optimax.energy.de.tournament.PairingStats;
+import optimax.energy.de.tournament.ResultMatrix;
+import optimax.energy.de.tournament.SprtStoppingRule;
+import optimax.energy.de.tournament.Tournament;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    @Test
+    void testHigherFixedBidderWinsEveryMatch() {
+        Tournament tournament = new Tournament(10, 100, 200);
+        tournament.addContender("High", () -> new FixedBidBot("High", 10));
+        tournament.addContender("Low", () -> new FixedBidBot("Low", 5));
+
+        ResultMatrix matrix = tournament.run();
+
+        assertEquals(200, matrix.getWins(0, 1));
+        assertEquals(0, matrix.getDraws(0, 1));
+        assertEquals(200, matrix.getLosses(1, 0));
+    }
+
+    @Test
+    void testStatsTrackQuantityAndBudgetOfBothSides() {
+        Tournament tournament = new Tournament(10, 100, 200);
+        tournament.addContender("High", () -> new FixedBidBot("High", 10));
+        tournament.addContender("Low", () -> new FixedBidBot("Low", 5));
+
+        ResultMatrix matrix = tournament.run();
+        PairingStats high = matrix.getStats(0, 1);
+        PairingStats low = matrix.getStats(1, 0);
+
+        // High wins all 5 lots for 10 MU each, Low pays 5 MU per lot for nothing
+        assertEquals(10.0, high.getQuantity().getMean(), 1e-12);
+        assertEquals(0.0, high.getQuantity().getVariance(), 1e-12);
+        assertEquals(50.0, high.getBudget().getMean(), 1e-12);
+        assertEquals(75.0, high.getOpponentBudget().getMean(), 1e-12);
+        assertEquals(0.0, low.getQuantity().getMean(), 1e-12);
+        assertTrue(high.getWinRateInterval(1.96).getLower() > 0.98);
+    }
+
+    @Test
+    void testEqualBiddersDraw() {
+        Tournament tournament = new Tournament(10, 100, 50);
+        tournament.addContender("A", () -> new FixedBidBot("A", 7));
+        tournament.addContender("B", () -> new FixedBidBot("B", 7));
+
+        ResultMatrix matrix = tournament.run();
+
+        assertEquals(50, matrix.getDraws(0, 1));
+        assertEquals(50, matrix.getDraws(1, 0));
+    }
+
+    @Test
+    void testEveryPairingPlaysAllMatches() {
+        Tournament tournament = new Tournament(10, 100, 130, new ForkJoinPool(4));
+        tournament.addContender("High", () -> new FixedBidBot("High", 10));
+        tournament.addContender("Low", () -> new FixedBidBot("Low", 5));
+        tournament.addContender("Steady", () -> new StrategyBot("Steady", new SteadyStrategy()));
+
+        ResultMatrix matrix = tournament.run();
+
+        for (int i = 0; i < matrix.size(); i++) {
+            for (int j = 0; j < matrix.size(); j++) {
+                if (i != j) {
+                    long played = matrix.getWins(i, j) + matrix.getDraws(i, j) + matrix.getLosses(i, j);
+                    assertEquals(130, played);
+                    assertEquals(matrix.getWins(i, j), matrix.getLosses(j, i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSameSeedGivesIdenticalResultsOnAnyThreadCount() {
+        ResultMatrix single = seededTournament(new ForkJoinPool(1)).run();
+        ResultMatrix parallel = seededTournament(new ForkJoinPool(4)).run();
+
+        for (int i = 0; i < single.size(); i++) {
+            for (int j = 0; j < single.size(); j++) {
+                assertEquals(single.getWins(i, j), parallel.getWins(i, j));
+                assertEquals(single.getDraws(i, j), parallel.getDraws(i, j));
+            }
+        }
+    }
+
+    @Test
+    void testStoppingRuleStopsSettledPairingsOnly() {
+        Tournament tournament = new Tournament(40, 1000, 10_000);
+        tournament.setSeed(99);
+        tournament.setStoppingRule(new SprtStoppingRule());
+        tournament.setBatchSize(50);
+        tournament.addContender("High", () -> new FixedBidBot("High", 30));
+        tournament.addContender("Low", () -> new FixedBidBot("Low", 5));
+        tournament.addContender("Random", () -> new RandomBot("Random"));
+        tournament.addContender("Random2", () -> new RandomBot("Random2"));
+
+        ResultMatrix matrix = tournament.run();
+
+        // A fixed bid that always wins is settled by the first batch
+        assertEquals(50, matrix.getStats(0, 1).getMatches());
+        // Two identical random bots stay close and get more matches
+        long close = matrix.getStats(2, 3).getMatches();
+        assertTrue(close > 50, "close pairing played " + close);
+        assertTrue(close <= 10_000);
+        assertEquals(0, close % 50);
+    }
+
+    @Test
+    void testBatchesOfOpenPairingsGrowAsOthersSettle() {
+        Tournament tournament = new Tournament(40, 1000, 1000);
+        tournament.setBatchSize(10);
+        List<Long> drawChecks = new ArrayList<>();
+        // One-sided pairings settle after the first batch; the drawn pairing never does
+        tournament.setStoppingRule(stats -> {
+            if (stats.getDraws() == stats.getMatches()) {
+                drawChecks.add(stats.getMatches());
+                return false;
+            }
+            return true;
+        });
+        tournament.addContender("High", () -> new FixedBidBot("High", 30));
+        tournament.addContender("Low", () -> new FixedBidBot("Low", 5));
+        tournament.addContender("Low2", () -> new FixedBidBot("Low2", 5));
+
+        ResultMatrix matrix = tournament.run();
+
+        assertEquals(10, matrix.getStats(0, 1).getMatches());
+        assertEquals(1000, matrix.getStats(1, 2).getMatches());
+        matrix.getStats(0, 1).record(-1, 0, 0, 0, 0);
+        assertEquals(10, matrix.getStats(0, 1).getMatches(), "The matrix must hand out copies");
+        // Three pairings, one left open: its batches are three times as large
+        assertEquals(List.of(10L, 40L, 70L), drawChecks.subList(0, 3));
+    }
+
+    @Test
+    void testStoppingRuleGivesIdenticalResultsOnAnyThreadCount() {
+        Tournament single = seededTournament(new ForkJoinPool(1));
+        Tournament parallel = seededTournament(new ForkJoinPool(4));
+        single.setStoppingRule(new SprtStoppingRule());
+        parallel.setStoppingRule(new SprtStoppingRule());
+
+        ResultMatrix first = single.run();
+        ResultMatrix second = parallel.run();
+
+        for (int i = 0; i < first.size(); i++) {
+            for (int j = 0; j < first.size(); j++) {
+                assertEquals(first.getWins(i, j), second.getWins(i, j));
+                assertEquals(first.getStats(i, j).getMatches(), second.getStats(i, j).getMatches());
+            }
+        }
+    }
+
+    @Test
+    void testFastFinishKeepsEveryOutcome() {
+        for (int match = 0; match < 300; match++) {
+            int full = Tournament.playMatch(new TradingBot("Trading"), new RandomBot("Random"),
+                    40, 1000, match, match, false);
+            int fast = Tournament.playMatch(new TradingBot("Trading"), new RandomBot("Random"),
+                    40, 1000, match, match, true);
+            assertEquals(Integer.signum(full), Integer.signum(fast), "match " + match);
+        }
+    }
+
+    @Test
+    void testFastFinishTournamentMatchesFullTournament() {
+        Tournament full = seededTournament(new ForkJoinPool(2));
+        Tournament fast = seededTournament(new ForkJoinPool(2));
+        fast.setFastFinish(true);
+
+        ResultMatrix expected = full.run();
+        ResultMatrix actual = fast.run();
+
+        for (int i = 0; i < expected.size(); i++) {
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(expected.getWins(i, j), actual.getWins(i, j));
+                assertEquals(expected.getDraws(i, j), actual.getDraws(i, j));
+            }
+        }
+    }
+
+    private Tournament seededTournament(ForkJoinPool pool) {
+        Tournament tournament = new Tournament(40, 1000, 300, pool);
+        tournament.setSeed(1234);
+        tournament.addContender("Random", () -> new RandomBot("Random"));
+        tournament.addContender("Trading", () -> new TradingBot("Trading"));
+        tournament.addContender("Grok", () -> new GrokBot("Grok"));
+        return tournament;
+    }
+}
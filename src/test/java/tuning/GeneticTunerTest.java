@@ -0,0 +1,86 @@
+package tuning;
+
+import bot.FixedBidBot;
+import optimax.energy.de.bot.RandomBot;
+import optimax.energy.de.bot.StrategyBot;
+import optimax.energy.de.bot.TradingBot;
+import optimax.energy.de.strategy.PressingStrategy;
+import optimax.energy.de.strategy.StrategyParameters;
+import optimax.energy.de.tuning.GeneticTuner;
+import optimax.energy.de.tuning.TuningResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneticTunerTest {
+
+    @Test
+    void testFindsPressingOffsetThatBeatsFixedBidder() {
+        // Pressing pays 20 + offset per lot it wins: offsets from 1 to 13 win 6 of 10 lots or more
+        GeneticTuner tuner = new GeneticTuner(
+                parameters -> new StrategyBot("Pressing", new PressingStrategy(parameters.getPressingOffset())),
+                20, 200);
+        tuner.addOpponent("Fixed", () -> new FixedBidBot("Fixed", 20));
+        tuner.setPopulationSize(8);
+        tuner.setGenerations(3);
+        tuner.setMatchesPerOpponent(4);
+        tuner.setSeed(1);
+
+        TuningResult result = tuner.run();
+
+        assertEquals(1.0, result.getBestFitness());
+        int offset = result.getBest().getPressingOffset();
+        assertTrue(offset >= 1 && offset <= 13, "Unexpected offset " + offset);
+    }
+
+    @Test
+    void testSameSeedGivesSameResultOnAnyPool() {
+        TuningResult single = tune(new ForkJoinPool(1));
+        TuningResult parallel = tune(new ForkJoinPool(4));
+
+        assertEquals(single.getBest(), parallel.getBest());
+        assertArrayEquals(single.getGenerationBestFitness(), parallel.getGenerationBestFitness());
+    }
+
+    @Test
+    void testUntunedParametersKeepTheirDefaults() {
+        GeneticTuner tuner = new GeneticTuner(parameters -> new TradingBot("Trading", parameters), 20, 300);
+        tuner.addOpponent("Random", () -> new RandomBot("Random"));
+        tuner.setTunedParameters(StrategyParameters.MEDIAN_OFFSET, StrategyParameters.LOW_BUDGET_PERCENT,
+                StrategyParameters.RANDOM_MULTIPLIER);
+        tuner.setPopulationSize(6);
+        tuner.setGenerations(3);
+        tuner.setMatchesPerOpponent(10);
+        tuner.setSeed(5);
+
+        TuningResult result = tuner.run();
+
+        assertEquals(StrategyParameters.DEFAULTS.getPressingOffset(), result.getBest().getPressingOffset());
+    }
+
+    @Test
+    void testInvalidSettingsAreRejected() {
+        GeneticTuner tuner = new GeneticTuner(parameters -> new TradingBot("Trading", parameters), 20, 300);
+
+        assertThrows(IllegalArgumentException.class, () -> tuner.setMatchesPerOpponent(0));
+        assertThrows(IllegalArgumentException.class, () -> tuner.setTunedParameters());
+        assertThrows(IllegalArgumentException.class, () -> tuner.setTunedParameters(StrategyParameters.SIZE));
+    }
+
+    @Test
+    void testDefaultParametersMatchHandTunedConstants() {
+        assertArrayEquals(new int[]{10, 10, 3, 5}, StrategyParameters.DEFAULTS.toArray());
+    }
+
+    private static TuningResult tune(ForkJoinPool pool) {
+        GeneticTuner tuner = new GeneticTuner(parameters -> new TradingBot("Trading", parameters), 20, 300, pool);
+        tuner.addOpponent("Random", () -> new RandomBot("Random"));
+        tuner.setPopulationSize(6);
+        tuner.setGenerations(3);
+        tuner.setMatchesPerOpponent(40);
+        tuner.setSeed(42);
+        return tuner.run();
+    }
+}